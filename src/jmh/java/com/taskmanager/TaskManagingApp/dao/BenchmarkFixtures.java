@@ -0,0 +1,46 @@
+package com.taskmanager.TaskManagingApp.dao;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Builds the DAOs the way Spring would, minus the database: the lookup cache is loaded from
+ * synthetic static-table rows and collaborators the mappers never touch are left null.
+ */
+final class BenchmarkFixtures {
+
+    private BenchmarkFixtures() {
+    }
+
+    static TaskLookupCache lookupCache() {
+        JdbcTemplate staticTables = new JdbcTemplate() {
+            @Override
+            public <T> T query(String sql, ResultSetExtractor<T> extractor) throws DataAccessException {
+                ResultSet rows = sql.contains("tbl_static_task_status")
+                        ? SyntheticResultSet.lookup("TODO", "IN_PROGRESS", "REVIEW", "DONE")
+                        : SyntheticResultSet.lookup("LOW", "MEDIUM", "HIGH", "CRITICAL");
+                try {
+                    return extractor.extractData(rows);
+                } catch (SQLException ex) {
+                    throw new IllegalStateException(ex);
+                }
+            }
+        };
+
+        TaskLookupCache lookup = new TaskLookupCache(staticTables);
+        lookup.load();
+        return lookup;
+    }
+
+    static TaskDAO taskDAO() {
+        return new TaskDAO(null, lookupCache(), new StatementShapeCache(), null, new TagDictionary(4096));
+    }
+
+    static EmployeeDAO employeeDAO() {
+        return new EmployeeDAO(null, new StatementShapeCache(), null, null, null, lookupCache());
+    }
+}
@@ -0,0 +1,70 @@
+package com.taskmanager.TaskManagingApp.dao;
+
+import com.taskmanager.TaskManagingApp.dto.EmployeeDTO;
+import com.taskmanager.TaskManagingApp.dto.TaskDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of turning result rows into DTOs with the production row mappers, per row set of the given
+ * size. Run with -prof gc to see allocation per operation as well.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RowMapperBenchmark {
+
+    @Param({"1", "1000"})
+    public int rows;
+
+    private TaskDAO taskDAO;
+    private RowMapper<EmployeeDTO> employeeRowMapper;
+    private ResultSet taskRows;
+    private ResultSet employeeRows;
+
+    @Setup
+    public void setup() {
+        taskDAO = BenchmarkFixtures.taskDAO();
+        employeeRowMapper = BenchmarkFixtures.employeeDAO().employeeRowMapper;
+        taskRows = SyntheticResultSet.tasks(rows);
+        employeeRows = SyntheticResultSet.employees(rows);
+    }
+
+    @Benchmark
+    public void taskRowMapper(Blackhole blackhole) throws SQLException {
+        // Per query, as TaskDAO does, so column resolution is part of the measured cost
+        RowMapper<TaskDTO> taskRowMapper = taskDAO.taskRowMapper();
+        taskRows.beforeFirst();
+        int rowNum = 0;
+        while (taskRows.next()) {
+            blackhole.consume(taskRowMapper.mapRow(taskRows, rowNum++));
+        }
+    }
+
+    @Benchmark
+    public void employeeRowMapper(Blackhole blackhole) throws SQLException {
+        employeeRows.beforeFirst();
+        int rowNum = 0;
+        while (employeeRows.next()) {
+            blackhole.consume(employeeRowMapper.mapRow(employeeRows, rowNum++));
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.taskmanager.TaskManagingApp.dao;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * StringBuilder cost of the dynamic SQL shapes, next to the StatementShapeCache lookup that
+ * replaces it on every call after the first. The field mask selects how many optional clauses a
+ * shape carries: none, a typical filter, or all of them.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SqlBuilderBenchmark {
+
+    @Param({"0", "1027", "8191"})
+    public int fieldMask;
+
+    private StatementShapeCache shapes;
+
+    @Setup
+    public void setup() {
+        shapes = new StatementShapeCache();
+        shapes.sql("task.find", fieldMask, TaskDAO::buildFindTasksSql);
+    }
+
+    @Benchmark
+    public String buildFindTasksSql() {
+        return TaskDAO.buildFindTasksSql(fieldMask);
+    }
+
+    @Benchmark
+    public String buildCreateTaskSql() {
+        return TaskDAO.buildCreateTaskSql(fieldMask & 1);
+    }
+
+    @Benchmark
+    public String buildUpdateInfoSql() {
+        return EmployeeDAO.buildUpdateInfoSql(fieldMask & 3);
+    }
+
+    @Benchmark
+    public String buildWorkloadSql() {
+        return EmployeeDAO.buildWorkloadSql(fieldMask & 3);
+    }
+
+    @Benchmark
+    public String cachedFindTasksSql() {
+        return shapes.sql("task.find", fieldMask, TaskDAO::buildFindTasksSql);
+    }
+}
@@ -0,0 +1,75 @@
+package com.taskmanager.TaskManagingApp.dao;
+
+import java.sql.Array;
+import java.sql.ResultSet;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Types;
+import java.util.Map;
+
+/**
+ * text[] column value; like the driver's array, every getArray() call materializes a fresh Java array.
+ */
+final class SyntheticArray implements Array {
+
+    private final String[] values;
+
+    SyntheticArray(String[] values) {
+        this.values = values;
+    }
+
+    @Override
+    public String getBaseTypeName() {
+        return "text";
+    }
+
+    @Override
+    public int getBaseType() {
+        return Types.VARCHAR;
+    }
+
+    @Override
+    public Object getArray() {
+        return values.clone();
+    }
+
+    @Override
+    public Object getArray(Map<String, Class<?>> map) {
+        return getArray();
+    }
+
+    @Override
+    public Object getArray(long index, int count) {
+        String[] slice = new String[count];
+        System.arraycopy(values, (int) index - 1, slice, 0, count);
+        return slice;
+    }
+
+    @Override
+    public Object getArray(long index, int count, Map<String, Class<?>> map) {
+        return getArray(index, count);
+    }
+
+    @Override
+    public ResultSet getResultSet() throws SQLFeatureNotSupportedException {
+        throw new SQLFeatureNotSupportedException();
+    }
+
+    @Override
+    public ResultSet getResultSet(Map<String, Class<?>> map) throws SQLFeatureNotSupportedException {
+        throw new SQLFeatureNotSupportedException();
+    }
+
+    @Override
+    public ResultSet getResultSet(long index, int count) throws SQLFeatureNotSupportedException {
+        throw new SQLFeatureNotSupportedException();
+    }
+
+    @Override
+    public ResultSet getResultSet(long index, int count, Map<String, Class<?>> map) throws SQLFeatureNotSupportedException {
+        throw new SQLFeatureNotSupportedException();
+    }
+
+    @Override
+    public void free() {
+    }
+}
@@ -0,0 +1,150 @@
+package com.taskmanager.TaskManagingApp.dao;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * In-memory ResultSet over pre-built rows, holding the same value types the PostgreSQL driver hands
+ * back (Integer, String, Timestamp, Date, Boolean, Array), so a row mapper does the same work it
+ * does against a live cursor minus the wire decoding. Column lookup by name goes through a map like
+ * the driver's. Call beforeFirst() to replay the rows.
+ * <p>
+ * Handed out as a ResultSet proxy that answers only what the mappers read; anything else throws, so
+ * a mapper starting to use something new fails loudly instead of silently measuring a stub.
+ */
+final class SyntheticResultSet implements InvocationHandler {
+
+    private final Map<String, Integer> columnIndex = new HashMap<>();
+    private final Object[][] rows;
+
+    private int cursor = -1;
+    private boolean lastWasNull;
+
+    private SyntheticResultSet(String[] columns, Object[][] rows) {
+        for (int i = 0; i < columns.length; i++) {
+            columnIndex.put(columns[i], i + 1);
+        }
+        this.rows = rows;
+    }
+
+    static ResultSet of(String[] columns, Object[][] rows) {
+        return (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(), new Class<?>[]{ResultSet.class}, new SyntheticResultSet(columns, rows));
+    }
+
+    static ResultSet tasks(int size) {
+        String[] columns = {"id", "title", "description", "created_at", "updated_at", "assigned_employee_id", "start_date", "end_date", "tags", "status", "priority"};
+        Object[][] rows = new Object[size][];
+        LocalDateTime now = LocalDateTime.of(2026, 1, 1, 9, 30);
+
+        for (int i = 0; i < size; i++) {
+            String[] tags = i % 3 == 0 ? new String[0] : new String[]{"backend", "sprint-" + (i % 12), "team-" + (i % 5)};
+            rows[i] = new Object[]{
+                    i + 1,
+                    "Task " + i,
+                    "Synthetic description for task " + i + " used by the mapping benchmarks",
+                    Timestamp.valueOf(now.plusMinutes(i)),
+                    Timestamp.valueOf(now.plusMinutes(i).plusHours(2)),
+                    i % 4 == 0 ? null : i % 50,
+                    Date.valueOf(LocalDate.of(2026, 1, 1).plusDays(i % 30)),
+                    Date.valueOf(LocalDate.of(2026, 2, 1).plusDays(i % 30)),
+                    new SyntheticArray(tags),
+                    1 + i % 4,
+                    1 + (i / 4) % 4
+            };
+        }
+        return of(columns, rows);
+    }
+
+    static ResultSet employees(int size) {
+        String[] columns = {"id", "name", "email", "is_deactivated", "created_at", "updated_at"};
+        Object[][] rows = new Object[size][];
+        LocalDateTime now = LocalDateTime.of(2026, 1, 1, 9, 30);
+
+        for (int i = 0; i < size; i++) {
+            rows[i] = new Object[]{
+                    i + 1,
+                    "Employee " + i,
+                    "employee" + i + "@example.com",
+                    i % 10 == 0,
+                    Timestamp.valueOf(now.plusMinutes(i)),
+                    Timestamp.valueOf(now.plusMinutes(i).plusDays(1))
+            };
+        }
+        return of(columns, rows);
+    }
+
+    static ResultSet lookup(String... values) {
+        Object[][] rows = new Object[values.length][];
+        for (int i = 0; i < values.length; i++) {
+            rows[i] = new Object[]{i + 1, values[i]};
+        }
+        return of(new String[]{"id", "value"}, rows);
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws SQLException {
+        return switch (method.getName()) {
+            case "next" -> ++cursor < rows.length;
+            case "beforeFirst" -> {
+                cursor = -1;
+                yield null;
+            }
+            case "findColumn" -> findColumn((String) args[0]);
+            case "wasNull" -> lastWasNull;
+            case "getInt" -> value(args[0]) instanceof Integer value ? value : 0;
+            case "getLong" -> value(args[0]) instanceof Number value ? value.longValue() : 0L;
+            case "getBoolean" -> value(args[0]) instanceof Boolean value && value;
+            case "getString" -> Objects.toString(value(args[0]), null);
+            case "getTimestamp", "getDate", "getArray" -> value(args[0]);
+            case "getObject" -> args.length == 2 && args[1] instanceof Class<?> type ? convert(value(args[0]), type) : value(args[0]);
+            // No driver metadata, so TaskRowMapper reads tags through getArray as it would on another driver
+            case "getMetaData", "close" -> null;
+            case "isClosed" -> false;
+            case "getType" -> ResultSet.TYPE_SCROLL_INSENSITIVE;
+            default -> throw new UnsupportedOperationException(method.getName() + " is not supported by the synthetic result set");
+        };
+    }
+
+    private Object value(Object column) throws SQLException {
+        int index = column instanceof Integer position ? position : findColumn((String) column);
+        Object value = rows[cursor][index - 1];
+        lastWasNull = value == null;
+        return value;
+    }
+
+    private int findColumn(String columnLabel) throws SQLException {
+        Integer index = columnIndex.get(columnLabel);
+        if (index == null) {
+            index = columnIndex.get(columnLabel.toLowerCase(Locale.ROOT));
+        }
+        if (index == null) {
+            throw new SQLException("The column name " + columnLabel + " was not found in this ResultSet.");
+        }
+        return index;
+    }
+
+    // Mirrors the conversions the PostgreSQL driver performs for getObject(column, type)
+    private static Object convert(Object value, Class<?> type) throws SQLException {
+        if (value == null || type.isInstance(value)) {
+            return value;
+        }
+        if (type == LocalDateTime.class && value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime();
+        }
+        if (type == LocalDate.class && value instanceof Date date) {
+            return date.toLocalDate();
+        }
+        throw new SQLException("Cannot convert " + value.getClass().getName() + " to " + type.getName());
+    }
+}
@@ -0,0 +1,143 @@
+package com.taskmanager.TaskManagingApp.dao;
+
+import com.taskmanager.TaskManagingApp.dto.TaskDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Allocation of the task row mapper against a real PostgreSQL driver result set: the previous
+ * by-label mapper that went through java.sql.Timestamp/Date, against TaskRowMapper. One operation
+ * maps every row, so divide gc.alloc.rate.norm from -prof gc by the row count for bytes per row.
+ * <p>
+ * The rows are generated by the query itself and held in a scrollable result set, so no table data
+ * is needed, only a reachable database. The connection comes from spring.datasource.* in
+ * application.properties, overridable with the same names as system properties:
+ * <pre>
+ * mvn -Pjmh verify -DskipTests -Djmh.args="TaskRowMapperAllocationBenchmark -prof gc"
+ * </pre>
+ * "binary" makes the driver use binary transfer from the first execution, which is what statements
+ * run often enough to be server-prepared (prepareThreshold, 5 by default) get in production.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskRowMapperAllocationBenchmark {
+
+    private static final String SQL = """
+            SELECT g AS id,
+                   'Task ' || g AS title,
+                   CASE WHEN g % 5 = 0 THEN NULL ELSE 'Description of task ' || g END AS description,
+                   TIMESTAMP '2025-01-01 09:00' + g * INTERVAL '1 minute' AS created_at,
+                   TIMESTAMP '2025-01-02 09:00' + g * INTERVAL '1 minute' AS updated_at,
+                   CASE WHEN g % 3 = 0 THEN NULL ELSE 1 + g % 1000 END AS assigned_employee_id,
+                   DATE '2025-01-01' + g % 365 AS start_date,
+                   DATE '2025-02-01' + g % 365 AS end_date,
+                   CASE WHEN g % 4 = 0 THEN ARRAY[]::text[] ELSE ARRAY['backend', 'tag-' || g % 50] END AS tags,
+                   1 + g % 4 AS status,
+                   1 + g % 4 AS priority
+            FROM generate_series(1, ?) g
+            """;
+
+    @Param({"100000"})
+    public int rows;
+
+    @Param({"text", "binary"})
+    public String transfer;
+
+    private TaskLookupCache lookup;
+    private TagDictionary tagDictionary;
+    private Connection connection;
+    private PreparedStatement statement;
+    private ResultSet taskRows;
+
+    @Setup
+    public void setup() throws IOException, SQLException {
+        lookup = BenchmarkFixtures.lookupCache();
+        tagDictionary = new TagDictionary(4096);
+
+        Properties settings = new Properties();
+        try (InputStream in = TaskRowMapperAllocationBenchmark.class.getResourceAsStream("/application.properties")) {
+            if (in != null) {
+                settings.load(in);
+            }
+        }
+
+        Properties connectionProperties = new Properties();
+        connectionProperties.setProperty("user", setting(settings, "spring.datasource.username"));
+        connectionProperties.setProperty("password", setting(settings, "spring.datasource.password"));
+        if ("binary".equals(transfer)) {
+            connectionProperties.setProperty("prepareThreshold", "-1");
+        }
+
+        connection = DriverManager.getConnection(setting(settings, "spring.datasource.url"), connectionProperties);
+        statement = connection.prepareStatement(SQL, ResultSet.TYPE_SCROLL_INSENSITIVE, ResultSet.CONCUR_READ_ONLY);
+        statement.setInt(1, rows);
+        taskRows = statement.executeQuery();
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public void byLabel(Blackhole blackhole) throws SQLException {
+        map(new LabelTaskRowMapper(lookup), blackhole);
+    }
+
+    @Benchmark
+    public void byPosition(Blackhole blackhole) throws SQLException {
+        map(new TaskRowMapper(lookup, tagDictionary), blackhole);
+    }
+
+    private void map(RowMapper<TaskDTO> mapper, Blackhole blackhole) throws SQLException {
+        taskRows.beforeFirst();
+        int rowNum = 0;
+        while (taskRows.next()) {
+            blackhole.consume(mapper.mapRow(taskRows, rowNum++));
+        }
+    }
+
+    private static String setting(Properties settings, String name) {
+        return System.getProperty(name, settings.getProperty(name));
+    }
+
+    // TaskDAO's mapper before TaskRowMapper, kept as the baseline
+    private record LabelTaskRowMapper(TaskLookupCache lookup) implements RowMapper<TaskDTO> {
+
+        @Override
+        public TaskDTO mapRow(ResultSet rs, int rowNum) throws SQLException {
+            Integer assignedEmployeeId = rs.getObject("assigned_employee_id", Integer.class);
+            Array sqlTags = rs.getArray("tags");
+            String[] tags = sqlTags != null ? (String[]) sqlTags.getArray() : new String[0];
+
+            return new TaskDTO(rs.getInt("id"), rs.getString("title"), rs.getString("description"), rs.getTimestamp("created_at").toLocalDateTime(), rs.getTimestamp("updated_at").toLocalDateTime(), assignedEmployeeId, rs.getDate("start_date").toLocalDate(), rs.getDate("end_date").toLocalDate(), tags, lookup.status(rs.getInt("status")), lookup.priority(rs.getInt("priority")));
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.taskmanager.TaskManagingApp.dto;
+
+import com.taskmanager.TaskManagingApp.models.PriorityType;
+import com.taskmanager.TaskManagingApp.models.StatusType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of the two largest response bodies: the task list wrapped in ApiResult and
+ * the id -> employee map returned by the employee list endpoint.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonSerializationBenchmark {
+
+    @Param({"10", "1000"})
+    public int size;
+
+    private JsonMapper jsonMapper;
+    private ApiResult<List<TaskDTO>> taskResult;
+    private Map<Integer, EmployeeDTO> employees;
+
+    @Setup
+    public void setup() {
+        jsonMapper = JsonMapper.builder().findAndAddModules().build();
+
+        LocalDateTime now = LocalDateTime.of(2026, 1, 1, 9, 30);
+        List<TaskDTO> tasks = new ArrayList<>(size);
+        employees = new LinkedHashMap<>();
+
+        for (int i = 0; i < size; i++) {
+            String[] tags = i % 3 == 0 ? new String[0] : new String[]{"backend", "sprint-" + (i % 12)};
+            tasks.add(new TaskDTO(i + 1, "Task " + i, "Synthetic description for task " + i, now.plusMinutes(i), now.plusMinutes(i).plusHours(2), i % 4 == 0 ? null : i % 50, LocalDate.of(2026, 1, 1), LocalDate.of(2026, 2, 1), tags, StatusType.values()[i % 4], PriorityType.values()[(i / 4) % 4]));
+            employees.put(i + 1, new EmployeeDTO(i + 1, "Employee " + i, "employee" + i + "@example.com", i % 10 == 0, now.plusMinutes(i), now.plusDays(1)));
+        }
+
+        taskResult = ApiResult.ok(tasks, "Got tasks successfully");
+    }
+
+    @Benchmark
+    public byte[] taskListResult() {
+        return jsonMapper.writeValueAsBytes(taskResult);
+    }
+
+    @Benchmark
+    public byte[] employeeMap() {
+        return jsonMapper.writeValueAsBytes(employees);
+    }
+}
@@ -0,0 +1,15 @@
+package com.taskmanager.TaskManagingApp.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+@Configuration
+public class ConnectionGateConfig {
+
+    // static so the post processor is registered before the datasource beans it wraps are created
+    @Bean
+    public static ConnectionGatePostProcessor connectionGatePostProcessor(Environment environment) {
+        return new ConnectionGatePostProcessor(environment);
+    }
+}
@@ -0,0 +1,101 @@
+package com.taskmanager.TaskManagingApp.config;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A Hikari pool with a fair semaphore in front of it. A permit is taken before borrowing a
+ * connection and given back when that connection is closed.
+ * <p>
+ * With virtual threads there is no request thread pool left to cap concurrency, so thousands of
+ * requests can reach the pool at once and pile up in its wait queue until they time out. The gate
+ * queues them in arrival order instead, and only as many as there are permits ever wait on the pool.
+ * <p>
+ * It takes over the configuration of the pool it replaces, and being a HikariDataSource itself, the
+ * bean keeps its type, its metrics and its close() on shutdown.
+ */
+public class ConnectionGateDataSource extends HikariDataSource {
+
+    private final Semaphore permits;
+    private final int maxPermits;
+    private final Duration acquireTimeout;
+
+    public ConnectionGateDataSource(HikariConfig config, int maxPermits, Duration acquireTimeout) {
+        // Copied rather than passed to super(config), which would start the pool right away
+        config.copyStateTo(this);
+        this.permits = new Semaphore(maxPermits, true);
+        this.maxPermits = maxPermits;
+        this.acquireTimeout = acquireTimeout;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        try {
+            return gated(super.getConnection());
+        } catch (SQLException | RuntimeException ex) {
+            permits.release();
+            throw ex;
+        }
+    }
+
+    public int getMaxPermits() {
+        return maxPermits;
+    }
+
+    public int getAvailablePermits() {
+        return permits.availablePermits();
+    }
+
+    public int getQueueLength() {
+        return permits.getQueueLength();
+    }
+
+    private void acquire() throws SQLException {
+        try {
+            if (!permits.tryAcquire(acquireTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new SQLTransientConnectionException("Timed out after " + acquireTimeout.toMillis() + "ms waiting for a database connection permit");
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a database connection permit", ex);
+        }
+    }
+
+    // Releases the permit on the first close(); later calls are no-ops, as JDBC allows
+    private Connection gated(Connection connection) {
+        AtomicBoolean released = new AtomicBoolean();
+
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+            if (method.getName().equals("close")) {
+                if (released.compareAndSet(false, true)) {
+                    try {
+                        connection.close();
+                    } finally {
+                        permits.release();
+                    }
+                }
+                return null;
+            }
+            if (method.getName().equals("unwrap") && ((Class<?>) args[0]).isInstance(connection)) {
+                return connection;
+            }
+
+            try {
+                return method.invoke(connection, args);
+            } catch (InvocationTargetException ex) {
+                throw ex.getTargetException();
+            }
+        });
+    }
+}
@@ -0,0 +1,55 @@
+package com.taskmanager.TaskManagingApp.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+
+import java.time.Duration;
+
+/**
+ * Replaces every Hikari pool (the single default one, or the primary and replica pools) with a
+ * ConnectionGateDataSource built from the same settings. Permits default to the pool's maximum size,
+ * so callers queue fairly at the gate rather than inside Hikari.
+ * <p>
+ * Platform request threads are already capped by the server's thread pool, so the gate is only on by
+ * default when spring.threads.virtual.enabled is; app.db-gate.enabled overrides that either way.
+ */
+@Slf4j
+public class ConnectionGatePostProcessor implements BeanPostProcessor, Ordered {
+
+    private final Environment environment;
+
+    public ConnectionGatePostProcessor(Environment environment) {
+        this.environment = environment;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        boolean virtualThreads = environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false);
+        if (!(bean instanceof HikariDataSource pool) || bean instanceof ConnectionGateDataSource
+                || !environment.getProperty("app.db-gate.enabled", Boolean.class, virtualThreads)) {
+            return bean;
+        }
+        if (pool.isRunning()) {
+            log.warn("ConnectionGatePostProcessor, dataSource={} already started, leaving it ungated", beanName);
+            return bean;
+        }
+
+        int permits = environment.getProperty("app.db-gate.permits", Integer.class, 0);
+        if (permits <= 0) {
+            permits = pool.getMaximumPoolSize();
+        }
+        Duration acquireTimeout = environment.getProperty("app.db-gate.acquire-timeout", Duration.class, Duration.ofSeconds(30));
+
+        log.info("ConnectionGatePostProcessor, gating dataSource={} with permits={}, acquireTimeout={}", beanName, permits, acquireTimeout);
+        return new ConnectionGateDataSource(pool, permits, acquireTimeout);
+    }
+
+    // Before SqlTracePostProcessor, which then wraps the gate and only times statements, not permit waits
+    @Override
+    public int getOrder() {
+        return Ordered.LOWEST_PRECEDENCE - 1;
+    }
+}
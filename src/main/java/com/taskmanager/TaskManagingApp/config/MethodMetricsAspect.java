@@ -0,0 +1,189 @@
+package com.taskmanager.TaskManagingApp.config;
+
+import com.taskmanager.TaskManagingApp.dto.TaskUpdateResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Times every public controller, service and DAO method and counts the rows DAO methods return, for
+ * the Prometheus scrape at /metrics:
+ * <ul>
+ *     <li>app_method_seconds: histogram tagged by layer, class, method and outcome (success/error)</li>
+ *     <li>app_method_errors_total: tagged by layer, class, method and exception</li>
+ *     <li>app_dao_rows_total: rows mapped by DAO methods that return collections, maps, single rows
+ *     or reactive streams, plus the count returned by methods that hand rows to a Consumer; other counts
+ *     and flags are not rows and are left out</li>
+ * </ul>
+ * Controllers turn exceptions into error responses, so their failures show up in Spring's
+ * http_server_requests_seconds by status rather than as an error outcome here.
+ * <p>
+ * Meters are resolved once per method and kept here, so a call only pays for two clock reads and a
+ * few atomic increments rather than a registry lookup. Calls made from inside the same bean bypass
+ * the proxy and are not measured separately.
+ */
+@Slf4j
+@Aspect
+@Component
+public class MethodMetricsAspect {
+
+    static final String DURATION_METRIC = "app.method";
+    static final String ERRORS_METRIC = "app.method.errors";
+    static final String ROWS_METRIC = "app.dao.rows";
+
+    private final MeterRegistry registry;
+    private final Map<Method, MethodMeters> meters = new ConcurrentHashMap<>();
+
+    public MethodMetricsAspect(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    // By type name rather than stereotype: TaskLookupCache is a @Repository but sits inside every row mapping
+    @Around("execution(public * com.taskmanager.TaskManagingApp.dao.*DAO.*(..)) || "
+            + "execution(public * com.taskmanager.TaskManagingApp.service.*Service.*(..)) || "
+            + "execution(public * com.taskmanager.TaskManagingApp.controller.*Controller.*(..))")
+    public Object measure(ProceedingJoinPoint joinPoint) throws Throwable {
+        MethodMeters method = meters.computeIfAbsent(((MethodSignature) joinPoint.getSignature()).getMethod(), this::register);
+
+        long start = System.nanoTime();
+        Object result;
+        try {
+            result = joinPoint.proceed();
+        } catch (Throwable ex) {
+            method.failed(ex, System.nanoTime() - start);
+            throw ex;
+        }
+
+        // A publisher returned from here has not run yet; measure it when it completes instead
+        if (result instanceof Flux<?> flux) {
+            return method.observe(flux, start);
+        }
+        if (result instanceof Mono<?> mono) {
+            return method.observe(mono, start);
+        }
+
+        method.succeeded(result, System.nanoTime() - start);
+        return result;
+    }
+
+    private MethodMeters register(Method method) {
+        Class<?> type = method.getDeclaringClass();
+        String layer = type.getPackageName().substring(type.getPackageName().lastIndexOf('.') + 1);
+
+        log.info("MethodMetricsAspect.register(), layer={}, method={}.{}", layer, type.getSimpleName(), method.getName());
+        boolean streamsRows = Arrays.asList(method.getParameterTypes()).contains(Consumer.class);
+        return new MethodMeters(layer, type.getSimpleName(), method.getName(), "dao".equals(layer), streamsRows);
+    }
+
+    private final class MethodMeters {
+
+        private final String layer;
+        private final String className;
+        private final String methodName;
+        private final Timer success;
+        // Created on first failure so methods that never fail do not export an empty histogram
+        private volatile Timer error;
+        private final Counter rows;
+        private final boolean streamsRows;
+        private final Map<Class<?>, Counter> errors = new ConcurrentHashMap<>();
+
+        MethodMeters(String layer, String className, String methodName, boolean countRows, boolean streamsRows) {
+            this.layer = layer;
+            this.className = className;
+            this.methodName = methodName;
+            this.success = timer("success");
+            this.streamsRows = streamsRows;
+            this.rows = countRows
+                    ? Counter.builder(ROWS_METRIC).description("Rows mapped by DAO methods").tags("class", className, "method", methodName).register(registry)
+                    : null;
+        }
+
+        void succeeded(Object result, long nanos) {
+            success.record(nanos, TimeUnit.NANOSECONDS);
+            if (rows != null) {
+                long count = rowsIn(result, streamsRows);
+                if (count > 0) {
+                    rows.increment(count);
+                }
+            }
+        }
+
+        void failed(Throwable ex, long nanos) {
+            Timer timer = error;
+            if (timer == null) {
+                // The registry hands back the same timer if two first failures race here
+                error = timer = timer("error");
+            }
+            timer.record(nanos, TimeUnit.NANOSECONDS);
+            errors.computeIfAbsent(ex.getClass(), type -> Counter.builder(ERRORS_METRIC)
+                    .description("Exceptions thrown by controller, service and DAO methods")
+                    .tags("layer", layer, "class", className, "method", methodName, "exception", type.getSimpleName())
+                    .register(registry)).increment();
+        }
+
+        Flux<?> observe(Flux<?> flux, long start) {
+            LongAdder emitted = new LongAdder();
+            return flux.doOnNext(item -> emitted.increment())
+                    .doOnComplete(() -> completed(emitted.sum(), start))
+                    .doOnError(ex -> failed(ex, System.nanoTime() - start));
+        }
+
+        Mono<?> observe(Mono<?> mono, long start) {
+            LongAdder emitted = new LongAdder();
+            return mono.doOnNext(item -> emitted.increment())
+                    .doOnSuccess(item -> completed(emitted.sum(), start))
+                    .doOnError(ex -> failed(ex, System.nanoTime() - start));
+        }
+
+        private void completed(long emitted, long start) {
+            success.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            if (rows != null && emitted > 0) {
+                rows.increment(emitted);
+            }
+        }
+
+        private Timer timer(String outcome) {
+            return Timer.builder(DURATION_METRIC)
+                    .description("Time spent in controller, service and DAO methods")
+                    .tags("layer", layer, "class", className, "method", methodName, "outcome", outcome)
+                    .publishPercentileHistogram()
+                    .minimumExpectedValue(Duration.ofNanos(100_000))
+                    .maximumExpectedValue(Duration.ofSeconds(30))
+                    .register(registry);
+        }
+    }
+
+    // streamed: the method handed its rows to a Consumer and returns how many it did
+    static long rowsIn(Object result, boolean streamed) {
+        return switch (result) {
+            case null -> 0;
+            case Number count when streamed -> count.longValue();
+            case TaskUpdateResult update -> update.taskFound() ? 1 : 0;
+            case Collection<?> collection -> collection.size();
+            case Map<?, ?> map -> map.size();
+            case Object[] array -> array.length;
+            // Affected-row counts, generated ids and existence flags are not mapped rows
+            case Number ignored -> 0;
+            case Boolean ignored -> 0;
+            default -> 1;
+        };
+    }
+}
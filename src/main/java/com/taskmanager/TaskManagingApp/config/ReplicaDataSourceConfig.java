@@ -0,0 +1,77 @@
+package com.taskmanager.TaskManagingApp.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Only active when app.datasource.replica.url is set; without it the single auto-configured
+ * datasource is used as before.
+ * <p>
+ * Both pools are built the way the auto-configured one is: the primary from spring.datasource.* with
+ * its pool settings under spring.datasource.hikari.*, the replica from app.datasource.replica.* and
+ * app.datasource.replica.hikari.*, taking the primary's username and password unless it sets its own.
+ * The application-wide DataSource becomes a lazy proxy over the routing datasource.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.replica", name = "url")
+public class ReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    // Not a default candidate, so everything injecting DataSourceProperties keeps getting spring.datasource.*
+    @Bean(defaultCandidate = false)
+    @ConfigurationProperties("app.datasource.replica")
+    public DataSourceProperties replicaDataSourceProperties() {
+        return new DataSourceProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties("app.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(@Qualifier("replicaDataSourceProperties") DataSourceProperties replicaProperties,
+                                              DataSourceProperties primaryProperties) {
+        if (replicaProperties.getUsername() == null) {
+            replicaProperties.setUsername(primaryProperties.getUsername());
+        }
+        if (replicaProperties.getPassword() == null) {
+            replicaProperties.setPassword(primaryProperties.getPassword());
+        }
+
+        HikariDataSource dataSource = replicaProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("replicaDataSource") DataSource replica,
+                                               @Value("${app.datasource.replica.max-lag:5s}") Duration maxLag) {
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(replica, maxLag);
+        monitor.check();
+        return monitor;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                 @Qualifier("replicaDataSource") DataSource replica,
+                                 ReplicaLagMonitor lagMonitor) {
+        return new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(primary, replica, lagMonitor));
+    }
+}
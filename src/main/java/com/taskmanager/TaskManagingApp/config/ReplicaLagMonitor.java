@@ -0,0 +1,70 @@
+package com.taskmanager.TaskManagingApp.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Polls the replica for its replay lag so routing never has to ask on the request path.
+ * <p>
+ * Lag is zero when the replica has replayed everything it received (an idle primary would otherwise
+ * look like growing lag), or when the target is not in recovery at all, as with a local stand-in
+ * database. A failed probe marks the replica unusable until the next successful one.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private static final String LAG_SQL = """
+            SELECT CASE
+                       WHEN NOT pg_is_in_recovery() THEN 0
+                       WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                       ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0)
+                   END::bigint
+            """;
+
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final Duration maxLag;
+
+    private volatile boolean replicaUsable;
+    private volatile long lagMillis = -1;
+
+    public ReplicaLagMonitor(DataSource replica, Duration maxLag) {
+        this.replicaJdbcTemplate = new JdbcTemplate(replica);
+        this.maxLag = maxLag;
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replica.lag-check-interval:5s}")
+    public void check() {
+        try {
+            Long lag = replicaJdbcTemplate.queryForObject(LAG_SQL, Long.class);
+            lagMillis = lag != null ? lag : 0;
+
+            boolean usable = lagMillis <= maxLag.toMillis();
+            if (usable != replicaUsable) {
+                log.info("ReplicaLagMonitor.check(), replica usable={}, lagMillis={}", usable, lagMillis);
+            }
+            replicaUsable = usable;
+        } catch (Exception ex) {
+            markUnreachable(ex);
+        }
+    }
+
+    public void markUnreachable(Exception ex) {
+        if (replicaUsable) {
+            log.warn("ReplicaLagMonitor.markUnreachable(), replica unreachable, routing reads to primary: {}", ex.getMessage());
+        }
+        lagMillis = -1;
+        replicaUsable = false;
+    }
+
+    public boolean isReplicaUsable() {
+        return replicaUsable;
+    }
+
+    public long getLagMillis() {
+        return lagMillis;
+    }
+}
@@ -0,0 +1,61 @@
+package com.taskmanager.TaskManagingApp.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+
+/**
+ * Sends connections opened inside a {@code @Transactional(readOnly = true)} service method to the
+ * replica and everything else to the primary. Anything that writes, and any read issued from inside a
+ * write method (the re-read after an update), therefore sees its own writes.
+ * <p>
+ * While the replica is unreachable or lagging more than allowed, read-only work falls back to the
+ * primary as well; a replica that fails between two lag probes is caught when borrowing a connection
+ * and skipped right away instead of failing the request. Has to sit behind a LazyConnectionDataSourceProxy so the route is chosen when the
+ * first statement runs, by which point the transaction's read-only flag is known.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    enum Route {
+        PRIMARY,
+        REPLICA
+    }
+
+    private final DataSource primary;
+    private final ReplicaLagMonitor lagMonitor;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagMonitor lagMonitor) {
+        this.primary = primary;
+        this.lagMonitor = lagMonitor;
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly() && lagMonitor.isReplicaUsable()) {
+            return Route.REPLICA;
+        }
+        return Route.PRIMARY;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        DataSource target = determineTargetDataSource();
+        if (target == primary) {
+            return target.getConnection();
+        }
+
+        try {
+            return target.getConnection();
+        } catch (SQLException ex) {
+            lagMonitor.markUnreachable(ex);
+            return primary.getConnection();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.taskmanager.TaskManagingApp.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Marks a request as traced when it carries "X-Trace: true" or falls into the configured sample, by
+ * putting a trace id into the MDC for the duration of the request and echoing it in the X-Trace-Id
+ * response header. Request handling that moves to another thread has to carry the MDC over itself.
+ */
+@Component
+public class RequestTraceFilter extends OncePerRequestFilter {
+
+    public static final String TRACE_MDC_KEY = "trace";
+    public static final String TRACE_HEADER = "X-Trace";
+    public static final String TRACE_ID_HEADER = "X-Trace-Id";
+
+    private final double sampleRate;
+
+    public RequestTraceFilter(@Value("${app.logging.trace-sample-rate:0}") double sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain) throws ServletException, IOException {
+        if (!isTraced(request)) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        String traceId = UUID.randomUUID().toString().substring(0, 8);
+        MDC.put(TRACE_MDC_KEY, traceId);
+        response.setHeader(TRACE_ID_HEADER, traceId);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            MDC.remove(TRACE_MDC_KEY);
+        }
+    }
+
+    private boolean isTraced(HttpServletRequest request) {
+        String header = request.getHeader(TRACE_HEADER);
+        if (header != null) {
+            return header.equalsIgnoreCase("true") || header.equals("1");
+        }
+        return sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+}
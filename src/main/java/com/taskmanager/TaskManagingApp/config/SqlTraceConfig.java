@@ -0,0 +1,16 @@
+package com.taskmanager.TaskManagingApp.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+@Configuration
+public class SqlTraceConfig {
+
+    // static so the post processor is registered before the datasource beans it wraps are created
+    @Bean
+    public static SqlTracePostProcessor sqlTracePostProcessor(Environment environment, ObjectProvider<SqlTraceRecorder> recorder) {
+        return new SqlTracePostProcessor(environment, recorder);
+    }
+}
@@ -0,0 +1,199 @@
+package com.taskmanager.TaskManagingApp.config;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+
+/**
+ * Reports every statement run through its connections to a SqlTraceRecorder: the SQL, the values
+ * bound to it, the time spent executing it and fetching its rows, and how many rows it returned or
+ * changed.
+ * <p>
+ * A statement is reported when it is closed or executed again, which JdbcTemplate does right after
+ * consuming the result, so rows streamed with a fetch size are counted in full. Only time spent
+ * inside the driver is counted, not the time the caller spends between fetches.
+ * <p>
+ * This wrapper is the bean Spring ends up exposing, and Spring infers the destroy method from it, so
+ * close() is passed on to the target to still shut the pool down with the context.
+ */
+public class SqlTraceDataSource extends DelegatingDataSource implements AutoCloseable {
+
+    private static final Object[] NO_BINDS = new Object[0];
+
+    private final SqlTraceRecorder recorder;
+
+    public SqlTraceDataSource(DataSource target, SqlTraceRecorder recorder) {
+        super(target);
+        this.recorder = recorder;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return traced(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return traced(super.getConnection(username, password));
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (getTargetDataSource() instanceof AutoCloseable target) {
+            target.close();
+        }
+    }
+
+    private Connection traced(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+            String name = method.getName();
+            if (name.equals("unwrap") && ((Class<?>) args[0]).isInstance(connection)) {
+                return connection;
+            }
+
+            Object result = invoke(method, connection, args);
+            return switch (name) {
+                case "prepareStatement" -> new TracedStatement((String) args[0]).proxy((Statement) result, PreparedStatement.class);
+                case "prepareCall" -> new TracedStatement((String) args[0]).proxy((Statement) result, CallableStatement.class);
+                case "createStatement" -> new TracedStatement(null).proxy((Statement) result, Statement.class);
+                default -> result;
+            };
+        });
+    }
+
+    private static Object invoke(Method method, Object target, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getTargetException();
+        }
+    }
+
+    /**
+     * Per-statement state. A statement is only ever used by one thread at a time, like the JDBC
+     * objects it wraps, so none of this needs to be thread-safe.
+     */
+    private final class TracedStatement {
+
+        // Fixed for prepared statements, taken from each execute(sql) call for plain ones
+        private String sql;
+        private Object[] binds = NO_BINDS;
+        private int bindCount;
+        private long nanos;
+        private long rows;
+        private boolean pending;
+
+        TracedStatement(String sql) {
+            this.sql = sql;
+        }
+
+        Statement proxy(Statement statement, Class<? extends Statement> type) {
+            return (Statement) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+                String name = method.getName();
+
+                if (name.startsWith("execute")) {
+                    finish();
+                    if (args != null && args.length > 0 && args[0] instanceof String text) {
+                        sql = text;
+                    }
+                    return execute(proxy, statement, method, args);
+                }
+                if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                    bind(index, name.equals("setNull") ? null : args[1]);
+                } else if (name.equals("clearParameters")) {
+                    bindCount = 0;
+                } else if (name.equals("close")) {
+                    finish();
+                } else if (name.equals("getResultSet")) {
+                    ResultSet rs = (ResultSet) invoke(method, statement, args);
+                    return rs == null ? null : traced(rs, (Statement) proxy);
+                } else if (name.equals("unwrap") && ((Class<?>) args[0]).isInstance(statement)) {
+                    return statement;
+                }
+
+                return invoke(method, statement, args);
+            });
+        }
+
+        private Object execute(Object proxy, Statement statement, Method method, Object[] args) throws Throwable {
+            pending = true;
+            long start = System.nanoTime();
+            try {
+                Object result = invoke(method, statement, args);
+                switch (result) {
+                    case ResultSet rs -> {
+                        return traced(rs, (Statement) proxy);
+                    }
+                    case Integer count -> rows += count;
+                    case Long count -> rows += count;
+                    case int[] counts -> rows += Arrays.stream(counts).filter(count -> count > 0).sum();
+                    case long[] counts -> rows += Arrays.stream(counts).filter(count -> count > 0).sum();
+                    case null, default -> {
+                    }
+                }
+                return result;
+            } finally {
+                nanos += System.nanoTime() - start;
+            }
+        }
+
+        private ResultSet traced(ResultSet rs, Statement owner) {
+            return (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(), new Class<?>[]{ResultSet.class}, (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "next" -> {
+                        long start = System.nanoTime();
+                        try {
+                            boolean hasRow = rs.next();
+                            if (hasRow) {
+                                rows++;
+                            }
+                            return hasRow;
+                        } finally {
+                            nanos += System.nanoTime() - start;
+                        }
+                    }
+                    case "getStatement" -> {
+                        return owner;
+                    }
+                    case "unwrap" -> {
+                        if (((Class<?>) args[0]).isInstance(rs)) {
+                            return rs;
+                        }
+                    }
+                    default -> {
+                    }
+                }
+                return invoke(method, rs, args);
+            });
+        }
+
+        private void bind(int index, Object value) {
+            if (index > binds.length) {
+                binds = Arrays.copyOf(binds, Math.max(index, binds.length * 2));
+            }
+            binds[index - 1] = value;
+            bindCount = Math.max(bindCount, index);
+        }
+
+        private void finish() {
+            if (!pending || sql == null) {
+                return;
+            }
+            pending = false;
+
+            recorder.record(sql, binds, bindCount, nanos, rows, getTargetDataSource());
+            nanos = 0;
+            rows = 0;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.taskmanager.TaskManagingApp.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps every pool, gated or not, in a SqlTraceDataSource. The recorder is looked up only when the
+ * first pool is wrapped, by which time every post processor is registered and it is a regular bean.
+ */
+@Slf4j
+public class SqlTracePostProcessor implements BeanPostProcessor, Ordered {
+
+    private final Environment environment;
+    private final ObjectProvider<SqlTraceRecorder> recorder;
+
+    public SqlTracePostProcessor(Environment environment, ObjectProvider<SqlTraceRecorder> recorder) {
+        this.environment = environment;
+        this.recorder = recorder;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof HikariDataSource) || !environment.getProperty("app.sql-trace.enabled", Boolean.class, false)) {
+            return bean;
+        }
+
+        log.info("SqlTracePostProcessor, tracing statements on dataSource={}", beanName);
+        return new SqlTraceDataSource((DataSource) bean, recorder.getObject());
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.LOWEST_PRECEDENCE;
+    }
+}
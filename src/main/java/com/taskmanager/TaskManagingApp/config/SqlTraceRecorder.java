@@ -0,0 +1,209 @@
+package com.taskmanager.TaskManagingApp.config;
+
+import com.taskmanager.TaskManagingApp.dto.SqlStatementStats;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * Aggregates the statements SqlTraceDataSource sees by normalized fingerprint: literals become "?",
+ * IN lists of placeholders collapse to "(...)" and whitespace is squeezed, so one query shape is one
+ * row however its text was formatted or how many ids it was called with.
+ * <p>
+ * Statements slower than the threshold are logged with their timing and row count. With
+ * log-parameters, a debugging opt-in, they are also logged with their bind values, and with explain
+ * as well, at most once per fingerprint per explain-interval, with their plan. Binds carry employee
+ * emails, names and task text, and PostgreSQL prints them inline in the plan, so explain does nothing
+ * without log-parameters. EXPLAIN without ANALYZE never runs the statement, and it runs on a
+ * background thread and its own connection so the slow request is not delayed further.
+ */
+@Slf4j
+@Component
+public class SqlTraceRecorder {
+
+    private static final String OVERFLOW_FINGERPRINT = "(other statements)";
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern PLACEHOLDER_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final long slowThresholdNanos;
+    private final boolean explain;
+    private final long explainIntervalNanos;
+    private final boolean logParameters;
+    private final int maxFingerprints;
+
+    private final ConcurrentMap<String, String> fingerprints = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Stats> stats = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Long> lastExplained = new ConcurrentHashMap<>();
+    private final ExecutorService explainer;
+
+    public SqlTraceRecorder(@Value("${app.sql-trace.slow-threshold:500ms}") Duration slowThreshold,
+                            @Value("${app.sql-trace.explain:false}") boolean explain,
+                            @Value("${app.sql-trace.explain-interval:5m}") Duration explainInterval,
+                            @Value("${app.sql-trace.log-parameters:false}") boolean logParameters,
+                            @Value("${app.sql-trace.max-fingerprints:1000}") int maxFingerprints) {
+        this.slowThresholdNanos = slowThreshold.toNanos();
+        this.explain = explain;
+        this.explainIntervalNanos = explainInterval.toNanos();
+        this.logParameters = logParameters;
+        this.maxFingerprints = maxFingerprints;
+
+        // One thread and a short queue: when the database is slow enough to back this up, plans are dropped
+        this.explainer = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(16),
+                Thread.ofPlatform().daemon().name("sql-explain").factory(), new ThreadPoolExecutor.DiscardPolicy());
+    }
+
+    /**
+     * @param explainSource untraced DataSource to run EXPLAIN on, or null to never explain this statement
+     */
+    public void record(String sql, Object[] binds, int bindCount, long nanos, long rows, DataSource explainSource) {
+        String fingerprint = fingerprint(sql);
+
+        Stats entry = stats.get(fingerprint);
+        if (entry == null) {
+            entry = stats.size() < maxFingerprints
+                    ? stats.computeIfAbsent(fingerprint, key -> new Stats())
+                    : stats.computeIfAbsent(OVERFLOW_FINGERPRINT, key -> new Stats());
+        }
+        entry.record(nanos, rows, bindCount);
+
+        if (nanos >= slowThresholdNanos) {
+            logSlow(sql, fingerprint, binds, bindCount, nanos, rows, explainSource);
+        }
+    }
+
+    public List<SqlStatementStats> topByTotalTime(int limit) {
+        return stats.entrySet().stream()
+                .map(entry -> entry.getValue().snapshot(entry.getKey()))
+                .sorted(Comparator.comparingDouble(SqlStatementStats::totalMillis).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    @PreDestroy
+    void stop() {
+        explainer.shutdownNow();
+    }
+
+    public int fingerprintCount() {
+        return stats.size();
+    }
+
+    public void reset() {
+        stats.clear();
+        lastExplained.clear();
+    }
+
+    String fingerprint(String sql) {
+        String cached = fingerprints.get(sql);
+        if (cached != null) {
+            return cached;
+        }
+
+        String normalized = STRING_LITERAL.matcher(sql).replaceAll("?");
+        normalized = NUMBER_LITERAL.matcher(normalized).replaceAll("?");
+        normalized = PLACEHOLDER_LIST.matcher(normalized).replaceAll("(...)");
+        normalized = WHITESPACE.matcher(normalized).replaceAll(" ").trim();
+
+        // SQL built from user input (ad hoc IN lists) would otherwise grow this without bound
+        if (fingerprints.size() < maxFingerprints * 4) {
+            fingerprints.putIfAbsent(sql, normalized);
+        }
+        return normalized;
+    }
+
+    private void logSlow(String sql, String fingerprint, Object[] binds, int bindCount, long nanos, long rows, DataSource explainSource) {
+        String parameters = logParameters ? Arrays.toString(Arrays.copyOf(binds, bindCount)) : "[" + bindCount + " hidden]";
+        log.warn("SqlTraceRecorder.record(), slow statement took={}ms, rows={}, binds={}, sql={}",
+                nanos / 1_000_000, rows, parameters, fingerprint);
+
+        // The plan shows the bound values too
+        if (!explain || !logParameters || explainSource == null || !explainable(sql)) {
+            return;
+        }
+
+        long now = System.nanoTime();
+        Long previous = lastExplained.get(fingerprint);
+        if (previous != null && now - previous < explainIntervalNanos) {
+            return;
+        }
+        if (previous == null ? lastExplained.putIfAbsent(fingerprint, now) != null : !lastExplained.replace(fingerprint, previous, now)) {
+            // Another thread is already explaining this fingerprint
+            return;
+        }
+
+        Object[] values = Arrays.copyOf(binds, bindCount);
+        explainer.execute(() -> explain(sql, fingerprint, values, explainSource));
+    }
+
+    private void explain(String sql, String fingerprint, Object[] values, DataSource explainSource) {
+        try (Connection connection = explainSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+            for (int i = 0; i < values.length; i++) {
+                statement.setObject(i + 1, values[i]);
+            }
+
+            StringBuilder plan = new StringBuilder();
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    plan.append(System.lineSeparator()).append(rs.getString(1));
+                }
+            }
+            log.warn("SqlTraceRecorder.explain(), plan for sql={}{}", fingerprint, plan);
+        } catch (Exception ex) {
+            log.warn("SqlTraceRecorder.explain(), could not explain sql={}, {}", fingerprint, ex.getMessage());
+        }
+    }
+
+    private static boolean explainable(String sql) {
+        String head = sql.stripLeading().toUpperCase(Locale.ROOT);
+        return head.startsWith("SELECT") || head.startsWith("WITH") || head.startsWith("INSERT")
+                || head.startsWith("UPDATE") || head.startsWith("DELETE");
+    }
+
+    private static final class Stats {
+
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAdder rows = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+        private volatile int binds;
+
+        void record(long nanos, long rowCount, int bindCount) {
+            calls.increment();
+            totalNanos.add(nanos);
+            rows.add(rowCount);
+            maxNanos.accumulate(nanos);
+            binds = bindCount;
+        }
+
+        SqlStatementStats snapshot(String fingerprint) {
+            long callCount = calls.sum();
+            double totalMillis = totalNanos.sum() / 1e6;
+            return new SqlStatementStats(fingerprint, callCount, binds, rows.sum(), totalMillis,
+                    callCount == 0 ? 0.0 : totalMillis / callCount, maxNanos.get() / 1e6);
+        }
+    }
+}
@@ -52,6 +52,42 @@ public final class ErrorMessages {
     public static final String INVALID_PRIORITY =
             "Invalid task priority";
 
+    public static final String INVALID_CURSOR =
+            "Invalid page cursor";
+
+    public static final String INVALID_PAGE_LIMIT =
+            "Page limit must be between 1 and %s";
+
+    public static final String INVALID_DATE_RANGE =
+            "Invalid %s date range, lower bound is after upper bound";
+
+    public static final String INVALID_TAG_MATCH =
+            "Invalid tag match %s, expected any or all";
+
+    public static final String SEARCH_QUERY_CANT_BE_NULL =
+            "Search query cannot be empty";
+
+    public static final String INVALID_SEARCH_PAGE =
+            "Search page must be between 1 and %s";
+
+    public static final String STATUS_AND_PRIORITY_EXCLUSIVE =
+            "Filter by either status or priority, not both";
+
+    public static final String UNSUPPORTED_EXPORT_FORMAT =
+            "Unsupported export format %s";
+
+    public static final String TASK_CANT_BE_NULL =
+            "Task cannot be null";
+
+    public static final String NO_TASKS_PROVIDED =
+            "At least one task should be provided";
+
+    public static final String MALFORMED_TASK_LINE =
+            "Malformed task at line %s";
+
+    public static final String TOO_MANY_TASKS =
+            "At most %s tasks can be created in one request";
+
     // Generic errors
     public static final String INTERNAL_SERVER_ERROR =
             "Server error";
@@ -0,0 +1,329 @@
+package com.taskmanager.TaskManagingApp.controller;
+
+import com.taskmanager.TaskManagingApp.dto.ApiResult;
+import com.taskmanager.TaskManagingApp.dto.ArchiveRunResult;
+import com.taskmanager.TaskManagingApp.dto.EmployeeCacheStats;
+import com.taskmanager.TaskManagingApp.dto.SqlStatementStats;
+import com.taskmanager.TaskManagingApp.dto.StatementShapeStats;
+import com.taskmanager.TaskManagingApp.service.AdminService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+import static com.taskmanager.TaskManagingApp.constants.ErrorMessages.*;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/admin")
+
+@Tag(
+        name = "Administration",
+        description = "APIs for inspecting runtime caches and database access statistics, and for maintenance jobs"
+)
+@CrossOrigin(origins = "http://localhost:5173")
+
+public class AdminController {
+
+    private final AdminService adminService;
+
+    public AdminController(AdminService adminService) {
+        this.adminService = adminService;
+    }
+
+    @Operation(
+            summary = "Get statement shape cache statistics",
+            description = "Returns how many dynamic SQL shapes are registered and how often a PATCH/INSERT reused an already built shape"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Statistics fetched successfully",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(
+                                    name = "Statement shape statistics",
+                                    value = """
+                                            {
+                                              "data": {
+                                                "shapes": 3,
+                                                "hits": 117,
+                                                "misses": 3,
+                                                "hitRate": 0.975
+                                              },
+                                              "message": "Fetched statement shape statistics",
+                                              "status": 200,
+                                              "success": true
+                                            }
+                                            """
+                            )
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "Internal server error",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(
+                                    name = "Server Error",
+                                    value = "Server error"
+                            )
+                    )
+            )
+    })
+    @GetMapping("/statement-shapes")
+    public ResponseEntity<ApiResult<?>> getStatementShapeStats() {
+        log.debug("In AdminController.getStatementShapeStats()");
+
+        try {
+            StatementShapeStats stats = adminService.getStatementShapeStats();
+            log.debug("Out AdminController.getStatementShapeStats(), hitRate={}", stats.hitRate());
+            return ResponseEntity.ok(ApiResult.ok(stats, "Fetched statement shape statistics"));
+        } catch (Exception ex) {
+            log.error("Out AdminController.getStatementShapeStats(), {}", ex.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(ApiResult.internalServerError(INTERNAL_SERVER_ERROR));
+        }
+    }
+
+    @Operation(
+            summary = "Get employee cache statistics",
+            description = "Returns size, hit/miss counts, evictions and write invalidations of the in-process employee cache"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Statistics fetched successfully",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(
+                                    name = "Employee cache statistics",
+                                    value = """
+                                            {
+                                              "data": {
+                                                "size": 42,
+                                                "hits": 950,
+                                                "misses": 50,
+                                                "hitRate": 0.95,
+                                                "evictions": 0,
+                                                "invalidations": 8
+                                              },
+                                              "message": "Fetched employee cache statistics",
+                                              "status": 200,
+                                              "success": true
+                                            }
+                                            """
+                            )
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "Internal server error",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(
+                                    name = "Server Error",
+                                    value = "Server error"
+                            )
+                    )
+            )
+    })
+    @GetMapping("/employee-cache")
+    public ResponseEntity<ApiResult<?>> getEmployeeCacheStats() {
+        log.debug("In AdminController.getEmployeeCacheStats()");
+
+        try {
+            EmployeeCacheStats stats = adminService.getEmployeeCacheStats();
+            log.debug("Out AdminController.getEmployeeCacheStats(), hitRate={}", stats.hitRate());
+            return ResponseEntity.ok(ApiResult.ok(stats, "Fetched employee cache statistics"));
+        } catch (Exception ex) {
+            log.error("Out AdminController.getEmployeeCacheStats(), {}", ex.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(ApiResult.internalServerError(INTERNAL_SERVER_ERROR));
+        }
+    }
+
+    @Operation(
+            summary = "Run the task archiver now",
+            description = "Moves soft-deleted tasks and DONE tasks past the retention window into the archive table in throttled batches, without waiting for the scheduled run"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Archive run completed",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(
+                                    name = "Archive run",
+                                    value = """
+                                            {
+                                              "data": {
+                                                "softDeleted": 12,
+                                                "done": 830,
+                                                "batches": 4
+                                              },
+                                              "message": "Archived tasks",
+                                              "status": 200,
+                                              "success": true
+                                            }
+                                            """
+                            )
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "Internal server error",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(
+                                    name = "Server Error",
+                                    value = "Server error"
+                            )
+                    )
+            )
+    })
+    @PostMapping("/archive")
+    public ResponseEntity<ApiResult<?>> runArchive() {
+        log.debug("In AdminController.runArchive()");
+
+        try {
+            ArchiveRunResult result = adminService.runArchive();
+            log.debug("Out AdminController.runArchive(), archived={}", result.total());
+            return ResponseEntity.ok(ApiResult.ok(result, "Archived tasks"));
+        } catch (Exception ex) {
+            log.error("Out AdminController.runArchive(), {}", ex.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(ApiResult.internalServerError(INTERNAL_SERVER_ERROR));
+        }
+    }
+
+    @Operation(
+            summary = "Get the statements with the most total database time",
+            description = "Returns traced SQL fingerprints (literals and IN lists normalized) ordered by total execution plus fetch time since startup or the last reset. Empty unless app.sql-trace.enabled is set"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Statements fetched successfully",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(
+                                    name = "Top statements",
+                                    value = """
+                                            {
+                                              "data": [
+                                                {
+                                                  "fingerprint": "SELECT t.id, t.title FROM tbl_master_tasks t WHERE t.is_deleted = false AND t.status = ? ORDER BY t.id",
+                                                  "calls": 1200,
+                                                  "binds": 1,
+                                                  "rows": 54000,
+                                                  "totalMillis": 8412.5,
+                                                  "meanMillis": 7.01,
+                                                  "maxMillis": 612.3
+                                                }
+                                              ],
+                                              "message": "Fetched top statements",
+                                              "status": 200,
+                                              "success": true
+                                            }
+                                            """
+                            )
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid limit",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(
+                                    name = "Invalid limit",
+                                    value = "Page limit must be between 1 and 200"
+                            )
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "Internal server error",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(
+                                    name = "Server Error",
+                                    value = "Server error"
+                            )
+                    )
+            )
+    })
+    @GetMapping("/sql-trace")
+    public ResponseEntity<ApiResult<?>> getTopStatements(
+            @Parameter(description = "Number of statements to return, up to 200", example = "20")
+            @RequestParam(required = false) Integer limit) {
+        log.debug("In AdminController.getTopStatements() limit={}", limit);
+
+        try {
+            List<SqlStatementStats> statements = adminService.getTopStatements(limit);
+            log.debug("Out AdminController.getTopStatements(), returned={}", statements.size());
+            return ResponseEntity.ok(ApiResult.ok(statements, "Fetched top statements"));
+        } catch (IllegalArgumentException ex) {
+            log.warn("Out AdminController.getTopStatements(), {}", ex.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ApiResult.badRequest(ex.getMessage()));
+        } catch (Exception ex) {
+            log.error("Out AdminController.getTopStatements(), {}", ex.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(ApiResult.internalServerError(INTERNAL_SERVER_ERROR));
+        }
+    }
+
+    @Operation(
+            summary = "Reset the statement statistics",
+            description = "Clears the traced statement totals, for example before a load test"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Statistics cleared",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(
+                                    name = "Reset",
+                                    value = """
+                                            {
+                                              "data": null,
+                                              "message": "Cleared statement statistics",
+                                              "status": 200,
+                                              "success": true
+                                            }
+                                            """
+                            )
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "Internal server error",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(
+                                    name = "Server Error",
+                                    value = "Server error"
+                            )
+                    )
+            )
+    })
+    @DeleteMapping("/sql-trace")
+    public ResponseEntity<ApiResult<?>> resetSqlTrace() {
+        log.debug("In AdminController.resetSqlTrace()");
+
+        try {
+            adminService.resetSqlTrace();
+            log.debug("Out AdminController.resetSqlTrace()");
+            return ResponseEntity.ok(ApiResult.ok(null, "Cleared statement statistics"));
+        } catch (Exception ex) {
+            log.error("Out AdminController.resetSqlTrace(), {}", ex.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(ApiResult.internalServerError(INTERNAL_SERVER_ERROR));
+        }
+    }
+}
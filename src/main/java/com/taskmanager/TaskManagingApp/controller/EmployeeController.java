@@ -2,6 +2,7 @@ package com.taskmanager.TaskManagingApp.controller;
 
 import com.taskmanager.TaskManagingApp.dto.ApiResult;
 import com.taskmanager.TaskManagingApp.dto.EmployeeDTO;
+import com.taskmanager.TaskManagingApp.dto.EmployeeWorkloadPage;
 import com.taskmanager.TaskManagingApp.dto.IdResponse;
 import com.taskmanager.TaskManagingApp.dto.TaskDTO;
 import com.taskmanager.TaskManagingApp.models.Employee;
@@ -91,10 +92,10 @@ public class EmployeeController {
     public ResponseEntity<ApiResult<?>> createEmployee(
             @Parameter(description = "Employee object containing name and email", required = true)
             @RequestBody Employee employee) {
-        log.info("In EmployeeController.createEmployeee(){}{} Entered the create employee endpoint", employee.getName(), employee.getEmail());
+        log.debug("In EmployeeController.createEmployeee(){}{} Entered the create employee endpoint", employee.getName(), employee.getEmail());
         try {
             Integer id = employeeService.createEmployee(employee.getName(), employee.getEmail());
-            log.info("Out EmployeeController.createEmployeee(), Created employee with id{}", id);
+            log.debug("Out EmployeeController.createEmployeee(), Created employee with id{}", id);
             return ResponseEntity.status(HttpStatus.CREATED).body(ApiResult.created(new IdResponse(id), "Created Employee with id " + id));
         } catch (IllegalArgumentException ex) {
             log.warn("Out EmployeeController.createEmployeee(), {} ",ex.getMessage());
@@ -157,9 +158,9 @@ public class EmployeeController {
     @GetMapping
     public ResponseEntity<ApiResult<?>> getEmployee() {
         try {
-            log.info("In EmpoloyeeController.getEmployee() ");
+            log.debug("In EmpoloyeeController.getEmployee() ");
             Map<Integer, EmployeeDTO> employees = employeeService.getEmployee();
-            log.info("Out EmpoloyeeController.getEmployee()");
+            log.debug("Out EmpoloyeeController.getEmployee()");
             return ResponseEntity.status(HttpStatus.OK).body(ApiResult.ok(employees, "Got employee successfully"));
         } catch (Exception ex) {
             log.error("Out EmpoloyeeController.getEmployee(), {}, {}" ,INTERNAL_SERVER_ERROR, ex.getMessage());
@@ -167,6 +168,86 @@ public class EmployeeController {
         }
     }
 
+    @Operation(
+            summary = "Get employee workload",
+            description = "Returns, for every active employee, assigned task counts by status and priority and the nearest open end date, computed in one aggregate query. Pass limit (and after from the previous page) to page by employee id"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Workload fetched successfully",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(
+                                    name = "Got workload successfully",
+                                    value = """
+                                            {
+                                              "data": {
+                                                "items": [
+                                                  {
+                                                    "employeeId": 1,
+                                                    "name": "Test1",
+                                                    "email": "Test1@example.com",
+                                                    "totalTasks": 3,
+                                                    "byStatus": {"TODO": 1, "IN_PROGRESS": 1, "REVIEW": 0, "DONE": 1},
+                                                    "byPriority": {"LOW": 0, "MEDIUM": 1, "HIGH": 2, "CRITICAL": 0},
+                                                    "nearestEndDate": "2026-02-02"
+                                                  }
+                                                ],
+                                                "nextAfter": 1
+                                              },
+                                              "message": "Got employee workload successfully",
+                                              "status": 200,
+                                              "success": true
+                                            }
+                                            """
+                            )
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid page limit",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(
+                                    name = "Error while fetching workload",
+                                    value = "Page limit must be between 1 and 500"
+                            )
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "503",
+                    description = "Database error",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(
+                                    name = "Error while fetching workload",
+                                    value = "Internal Server Error"
+                            )
+                    )
+            )
+    })
+    @GetMapping("/workload")
+    public ResponseEntity<ApiResult<?>> getEmployeeWorkload(
+            @Parameter(description = "Return employees with an id greater than this (nextAfter of the previous page)", example = "1")
+            @RequestParam(required = false) Integer after,
+            @Parameter(description = "Page size, up to 500. Omit to get every active employee", example = "50")
+            @RequestParam(required = false) Integer limit) {
+        log.debug("In EmployeeController.getEmployeeWorkload() after={}, limit={}", after, limit);
+
+        try {
+            EmployeeWorkloadPage page = employeeService.getEmployeeWorkload(after, limit);
+            log.debug("Out EmployeeController.getEmployeeWorkload(), totalEmployees={}", page.items().size());
+            return ResponseEntity.status(HttpStatus.OK).body(ApiResult.ok(page, "Got employee workload successfully"));
+        } catch (IllegalArgumentException ex) {
+            log.warn("Out EmployeeController.getEmployeeWorkload(), {}", ex.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ApiResult.badRequest(ex.getMessage()));
+        } catch (Exception ex) {
+            log.error("Out EmployeeController.getEmployeeWorkload(), {}, {}", INTERNAL_SERVER_ERROR, ex.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(ApiResult.internalServerError(INTERNAL_SERVER_ERROR+ex.getMessage()));
+        }
+    }
+
     @Operation(
             summary = "Get employee by ID",
             description = "Fetches employee details for a given employee ID"
@@ -232,17 +313,17 @@ public class EmployeeController {
     public ResponseEntity<ApiResult<?>> getEmployeeById(
             @Parameter(description = "Employee ID", example = "1", required = true)
             @PathVariable Integer id) {
-        log.info("In EmpoloyeeController.getEmployeeById(){}", id);
+        log.debug("In EmpoloyeeController.getEmployeeById(){}", id);
         if (id == null || id < 0) {
             log.warn("Out EmpoloyeeController.getEmployeeById(), {}, id={} ", NULL_VALUE_PASSED, id);
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ApiResult.badRequest(NULL_VALUE_PASSED));
         }
         try {
             EmployeeDTO employee = employeeService.getEmployeeById(id);
-            log.info("Out EmpoloyeeController.getEmployeeById(), got employee successfully");
+            log.debug("Out EmpoloyeeController.getEmployeeById(), got employee successfully");
             return ResponseEntity.status(HttpStatus.OK).body(ApiResult.ok(employee, "Got employee with id " + id));
         } catch (IllegalStateException ex) {
-            log.info("Out EmpoloyeeController.getEmployeeById(), no employee found with this id={}, {}", id,ex.getMessage());
+            log.debug("Out EmpoloyeeController.getEmployeeById(), no employee found with this id={}, {}", id,ex.getMessage());
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ApiResult.notFound(String.format(EMPLOYEE_NOT_FOUND, id)));
         } catch (Exception ex) {
             log.error("Out EmpoloyeeController.getEmployeeById() {} {}" ,INTERNAL_SERVER_ERROR, ex.getMessage());
@@ -314,14 +395,14 @@ public class EmployeeController {
     public ResponseEntity<ApiResult<?>> updateEmployee(
             @Parameter(description = "Employee object with updated details", required = true)
             @RequestBody Employee employee) {
-        log.info("In EmpoloyeeController.updateEmployee(){}{}", employee.getName(), employee.getEmail());
+        log.debug("In EmpoloyeeController.updateEmployee(){}{}", employee.getName(), employee.getEmail());
         if (employee.getId() == null || employee.getId() < 0) {
             log.warn("Out EmpoloyeeController.updateEmployeeById(), {}, id={} ", NULL_VALUE_PASSED, employee.getId());
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ApiResult.badRequest(NULL_VALUE_PASSED));
         }
         try {
             EmployeeDTO employee1 = employeeService.updateEmployeeInfo(employee.getId(), employee.getName(), employee.getEmail());
-            log.info("Out EmpoloyeeController.updateEmployeeById(), employee created successfully");
+            log.debug("Out EmpoloyeeController.updateEmployeeById(), employee created successfully");
             return ResponseEntity.status(HttpStatus.OK).body(ApiResult.ok(employee1, "Updated employee with id" + employee1.id()));
         } catch (IllegalArgumentException ex) {
             log.warn("Out EmpoloyeeController.updateEmployeeById(), {}", ex.getMessage());
@@ -400,14 +481,14 @@ public class EmployeeController {
     public ResponseEntity<ApiResult<?>> deactivateEmployee(
             @Parameter(description = "Employee ID", example = "3", required = true)
             @PathVariable Integer id) {
-        log.info("In EmpoloyeeController.deactivateEmployee(){}", id);
+        log.debug("In EmpoloyeeController.deactivateEmployee(){}", id);
         if (id == null || id < 0) {
             log.warn("Out EmpoloyeeController.deactivateEmployee(),{}, id={} ", NULL_VALUE_PASSED, id);
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ApiResult.badRequest(NULL_VALUE_PASSED));
         }
         try {
             EmployeeDTO employee = employeeService.deactivateEmployee(id);
-            log.info("Out EmpoloyeeController.deactivateEmployee(),employee found successfully");
+            log.debug("Out EmpoloyeeController.deactivateEmployee(),employee found successfully");
             return ResponseEntity.status(HttpStatus.OK).body(ApiResult.ok(employee, "Deactivated employee with id " + id));
         } catch (IllegalStateException ex) {
             log.warn("Out EmpoloyeeController.deactivateEmployee(), employee with id={} not found, {}", id,ex.getMessage());
@@ -483,14 +564,14 @@ public class EmployeeController {
     public ResponseEntity<ApiResult<?>> activateEmployee(
             @Parameter(description = "Employee ID", example = "3", required = true)
             @PathVariable Integer id) {
-        log.info("In EmpoloyeeController.activateEmployee(){}", id);
+        log.debug("In EmpoloyeeController.activateEmployee(){}", id);
         if (id == null || id < 0) {
             log.warn("Out EmpoloyeeController.activateEmployee(), {}, id={} ", NULL_VALUE_PASSED, id);
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ApiResult.badRequest(NULL_VALUE_PASSED));
         }
         try {
             EmployeeDTO employee = employeeService.activateEmployee(id);
-            log.info("Out EmpoloyeeController.activateEmployee(),employee found successfully");
+            log.debug("Out EmpoloyeeController.activateEmployee(),employee found successfully");
             return ResponseEntity.status(HttpStatus.OK).body(ApiResult.ok(employee, "Activated employee with id " + id));
         } catch (IllegalStateException ex) {
             log.warn("Out EmpoloyeeController.activateEmployee(), employee with id={} not found", id);
@@ -606,14 +687,14 @@ public class EmployeeController {
     public ResponseEntity<ApiResult<?>> getAllTaskAssignedToEmployee(
             @Parameter(description = "Employee ID", example = "2", required = true)
             @PathVariable Integer id) {
-        log.info("In EmpoloyeeController.getAllTaskAssignedToEmployee(){}", id);
+        log.debug("In EmpoloyeeController.getAllTaskAssignedToEmployee(){}", id);
         if (id == null || id < 0) {
             log.warn("Out EmpoloyeeController.getAllTaskAssignedToEmployee(), {}, id={} ", NULL_VALUE_PASSED, id);
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ApiResult.badRequest(NULL_VALUE_PASSED));
         }
         try {
             List<TaskDTO> tasks = assignmentService.getAllTaskAssignedToEmployee(id);
-            log.info("Out EmpoloyeeController.getAllTaskAssignedToEmployee(), got All Tasks assigned to user successfully");
+            log.debug("Out EmpoloyeeController.getAllTaskAssignedToEmployee(), got All Tasks assigned to user successfully");
             return ResponseEntity.status(HttpStatus.OK).body(ApiResult.ok(tasks, "Got tasks for employee id " + id));
         } catch (IllegalStateException ex) {
             log.warn("Out EmpoloyeeController.getAllTaskAssignedToEmployee(), employee with id={} not found", id);
@@ -679,14 +760,14 @@ public class EmployeeController {
     public ResponseEntity<ApiResult<?>> deleteEmployee(
             @Parameter(description = "Employee ID", example = "5", required = true)
             @PathVariable Integer id) {
-        log.info("In EmpoloyeeController.deleteEmployee(){}", id);
+        log.debug("In EmpoloyeeController.deleteEmployee(){}", id);
         if (id == null || id < 0) {
             log.warn("Out EmpoloyeeController.deleteEmployee(), {}, id={} ", NULL_VALUE_PASSED, id);
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ApiResult.badRequest(NULL_VALUE_PASSED));
         }
         try {
             employeeService.deleteEmployee(id);
-            log.info("Out EmpoloyeeController.deleteEmployee(),employee deleted successfully");
+            log.debug("Out EmpoloyeeController.deleteEmployee(),employee deleted successfully");
             return ResponseEntity.status(HttpStatus.OK).body(ApiResult.ok(new IdResponse(id), "Deleted employee with id " + id));
         } catch (IllegalStateException ex) {
             log.warn("Out EmpoloyeeController.deleteEmployee(), employee with id={} not found", id);
@@ -762,13 +843,13 @@ public class EmployeeController {
     public ResponseEntity<ApiResult<?>> getEmployeesByIds(
             @Parameter(description = "List of employee IDs", example = "[1,2,3]", required = true)
             @RequestParam List<Integer> ids) {
-        log.info("In EmpoloyeeController.getEmployeesByIds(){}", ids);
+        log.debug("In EmpoloyeeController.getEmployeesByIds(){}", ids);
         if (ids == null || ids.isEmpty()) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ApiResult.badRequest(NULL_VALUE_PASSED));
         }
 
         try {
-            log.info("Out EmpoloyeeController.getEmployeesByIds(), got employee successfully");
+            log.debug("Out EmpoloyeeController.getEmployeesByIds(), got employee successfully");
             return ResponseEntity.status(HttpStatus.OK).body(ApiResult.ok(employeeService.getEmployeesByIds(ids), "Got employees with given ids"));
         } catch (Exception ex) {
             log.error("Out EmpoloyeeController.getEmployeesByIds()" + INTERNAL_SERVER_ERROR + "{}", ex.getMessage());
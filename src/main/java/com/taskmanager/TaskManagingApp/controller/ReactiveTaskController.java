@@ -0,0 +1,197 @@
+package com.taskmanager.TaskManagingApp.controller;
+
+import com.taskmanager.TaskManagingApp.dto.ApiResult;
+import com.taskmanager.TaskManagingApp.models.PriorityType;
+import com.taskmanager.TaskManagingApp.models.StatusType;
+import com.taskmanager.TaskManagingApp.service.ReactiveTaskService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import static com.taskmanager.TaskManagingApp.constants.ErrorMessages.*;
+
+/**
+ * Streaming read endpoints backed by R2DBC, available with the "reactive" profile.
+ * <p>
+ * Lists are written as NDJSON one task at a time. Spring MVC only requests the next task from the
+ * database once the previous one was written, so a slow client slows its own query down instead of
+ * buffering the result in memory, and no thread is parked waiting for the database meanwhile.
+ */
+@Slf4j
+@Profile("reactive")
+@RestController
+@CrossOrigin(origins = "http://localhost:5173")
+@RequestMapping("/api/v1/reactive/tasks")
+@Tag(
+        name = "Reactive Task Streams",
+        description = "Non-blocking streaming reads of tasks (reactive profile only)"
+)
+public class ReactiveTaskController {
+
+    private static final String NDJSON_EXAMPLE = """
+            {"id":1,"title":"Hello","description":"myDesc","createdAt":"2026-01-07T18:11:10.404452","updatedAt":"2026-01-08T10:11:55.707011","assignedEmployeeId":null,"startDate":"2026-01-01","endDate":"2026-02-02","tags":[],"status":"TODO","priority":"HIGH"}
+            {"id":2,"title":"Test1","description":"Test1","createdAt":"2026-01-08T12:33:11.976668","updatedAt":"2026-01-08T12:33:11.976668","assignedEmployeeId":1,"startDate":"2026-01-01","endDate":"2026-02-02","tags":["Red"],"status":"TODO","priority":"LOW"}
+            """;
+
+    private final ReactiveTaskService reactiveTaskService;
+
+    public ReactiveTaskController(ReactiveTaskService reactiveTaskService) {
+        this.reactiveTaskService = reactiveTaskService;
+    }
+
+    @Operation(
+            summary = "Stream tasks",
+            description = "Streams all live tasks as NDJSON, optionally only those with the given status or the given priority"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Tasks streamed successfully",
+                    content = @Content(
+                            mediaType = "application/x-ndjson",
+                            examples = @ExampleObject(name = "streamed tasks", value = NDJSON_EXAMPLE)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Both status and priority passed",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(
+                                    name = "Error while streaming tasks",
+                                    value = "Filter by either status or priority, not both"
+                            )
+                    )
+            )
+    })
+    @GetMapping(produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<?> streamTasks(
+            @Parameter(description = "Only tasks with this status", example = "TODO")
+            @RequestParam(required = false) StatusType status,
+            @Parameter(description = "Only tasks with this priority", example = "HIGH")
+            @RequestParam(required = false) PriorityType priority) {
+        log.debug("In ReactiveTaskController.streamTasks() status={}, priority={}", status, priority);
+
+        try {
+            var tasks = reactiveTaskService.streamTasks(status, priority);
+            log.debug("Out ReactiveTaskController.streamTasks(), streaming");
+            return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(tasks);
+
+        } catch (IllegalArgumentException ex) {
+            log.warn("Out ReactiveTaskController.streamTasks(), invalid input: {}", ex.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).contentType(MediaType.APPLICATION_JSON).body(ApiResult.badRequest(ex.getMessage()));
+        }
+    }
+
+    @Operation(
+            summary = "Get task by ID",
+            description = "Fetches a live task without blocking a request thread"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Task fetched successfully"
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid ID",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(
+                                    name = "Error while fetching task",
+                                    value = "Null/Negative id passed"
+                            )
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Task not found",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(
+                                    name = "Error while fetching task",
+                                    value = "Task with id 10 not found"
+                            )
+                    )
+            )
+    })
+    @GetMapping(value = "/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<ApiResult<?>>> getTaskById(
+            @Parameter(description = "Task ID", example = "10", required = true)
+            @PathVariable Integer id) {
+        log.debug("In ReactiveTaskController.getTaskById() id={}", id);
+
+        try {
+            return reactiveTaskService.getTaskById(id)
+                    .<ResponseEntity<ApiResult<?>>>map(task -> {
+                        log.debug("Out ReactiveTaskController.getTaskById(), task found id={}", id);
+                        return ResponseEntity.ok(ApiResult.ok(task, "Got task for given id successfully"));
+                    })
+                    .onErrorResume(IllegalStateException.class, ex -> {
+                        log.warn("Out ReactiveTaskController.getTaskById(), task not found id={}", id);
+                        return Mono.just(ResponseEntity.status(HttpStatus.NOT_FOUND).body(ApiResult.notFound(ex.getMessage())));
+                    })
+                    .onErrorResume(ex -> !(ex instanceof IllegalStateException), ex -> {
+                        log.error("Out ReactiveTaskController.getTaskById(), {},{}", INTERNAL_SERVER_ERROR, ex.getMessage());
+                        return Mono.just(ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(ApiResult.internalServerError(INTERNAL_SERVER_ERROR)));
+                    });
+
+        } catch (IllegalArgumentException ex) {
+            log.warn("Out ReactiveTaskController.getTaskById(), invalid input: {}", ex.getMessage());
+            return Mono.just(ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ApiResult.badRequest(ex.getMessage())));
+        }
+    }
+
+    @Operation(
+            summary = "Stream tasks assigned to an employee",
+            description = "Streams the live tasks assigned to the given employee as NDJSON"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Tasks streamed successfully",
+                    content = @Content(
+                            mediaType = "application/x-ndjson",
+                            examples = @ExampleObject(name = "streamed tasks", value = NDJSON_EXAMPLE)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid employee ID",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(
+                                    name = "Error while streaming tasks",
+                                    value = "Null/Negative id passed"
+                            )
+                    )
+            )
+    })
+    @GetMapping(value = "/user/{id}", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<?> streamTasksAssignedToEmployee(
+            @Parameter(description = "Employee ID", example = "3", required = true)
+            @PathVariable Integer id) {
+        log.debug("In ReactiveTaskController.streamTasksAssignedToEmployee() id={}", id);
+
+        try {
+            var tasks = reactiveTaskService.streamTasksAssignedToEmployee(id);
+            log.debug("Out ReactiveTaskController.streamTasksAssignedToEmployee(), streaming");
+            return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(tasks);
+
+        } catch (IllegalArgumentException ex) {
+            log.warn("Out ReactiveTaskController.streamTasksAssignedToEmployee(), invalid input: {}", ex.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).contentType(MediaType.APPLICATION_JSON).body(ApiResult.badRequest(ex.getMessage()));
+        }
+    }
+}
@@ -1,11 +1,17 @@
 package com.taskmanager.TaskManagingApp.controller;
 
 import com.taskmanager.TaskManagingApp.dto.ApiResult;
+import com.taskmanager.TaskManagingApp.dto.BulkCreateResult;
 import com.taskmanager.TaskManagingApp.dto.EmployeeDTO;
 import com.taskmanager.TaskManagingApp.dto.IdResponse;
 import com.taskmanager.TaskManagingApp.dto.TaskDTO;
+import com.taskmanager.TaskManagingApp.dto.TaskFilter;
+import com.taskmanager.TaskManagingApp.dto.TaskPage;
+import com.taskmanager.TaskManagingApp.dto.TaskSearchPage;
+import com.taskmanager.TaskManagingApp.dto.TaskStats;
 import com.taskmanager.TaskManagingApp.models.PriorityType;
 import com.taskmanager.TaskManagingApp.models.StatusType;
+import com.taskmanager.TaskManagingApp.models.TagMatch;
 import com.taskmanager.TaskManagingApp.models.Employee;
 import com.taskmanager.TaskManagingApp.models.Task;
 import com.taskmanager.TaskManagingApp.service.AssignmentService;
@@ -18,9 +24,28 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 
 import static com.taskmanager.TaskManagingApp.constants.ErrorMessages.*;
 
@@ -35,12 +60,19 @@ import static com.taskmanager.TaskManagingApp.constants.ErrorMessages.*;
 )
 public class TaskController {
 
+    private static final String EXPORT_FORMAT_NDJSON = "ndjson";
+
     private final TaskService taskService;
     private final AssignmentService assignmentService;
+    private final JsonMapper jsonMapper;
+    private final int bulkMaxItems;
 
-    public TaskController(TaskService taskService, AssignmentService assignmentService) {
+    public TaskController(TaskService taskService, AssignmentService assignmentService, JsonMapper jsonMapper,
+                          @Value("${app.tasks.bulk-max-items:10000}") int bulkMaxItems) {
         this.taskService = taskService;
         this.assignmentService = assignmentService;
+        this.jsonMapper = jsonMapper;
+        this.bulkMaxItems = bulkMaxItems;
     }
 
     @Operation(
@@ -91,12 +123,12 @@ public class TaskController {
     public ResponseEntity<ApiResult<?>> createTask(
             @Parameter(description = "Task object containing task details", required = true)
             @RequestBody Task task) {
-        log.info("In TaskController.createTask() title={}, priority={}, status={}", task.getTitle(), task.getPriority(), task.getStatus());
+        log.debug("In TaskController.createTask() title={}, priority={}, status={}", task.getTitle(), task.getPriority(), task.getStatus());
 
         try {
             Integer id = taskService.createTask(task.getTitle(), task.getDescription(), task.getStartDate(), task.getEndDate(), task.getTags(), task.getStatus(), task.getPriority());
 
-            log.info("Out TaskController.createTask(), task created id={}", id);
+            log.debug("Out TaskController.createTask(), task created id={}", id);
             return ResponseEntity.status(HttpStatus.CREATED).body(ApiResult.created(new IdResponse(id),"Task created successfully"));
 
         } catch (IllegalArgumentException ex) {
@@ -109,9 +141,207 @@ public class TaskController {
         }
     }
 
+    @Operation(
+            summary = "Create tasks in bulk",
+            description = "Creates many tasks in one request from a JSON array or an application/x-ndjson body. Every item is validated with the same rules as /create; valid items are inserted in batches and invalid ones are reported by index. At most app.tasks.bulk-max-items tasks per request"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "201",
+                    description = "Valid tasks created, ids returned in input order",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(
+                                    name = "Tasks Created",
+                                    value = """
+                                            {
+                                              "ids": [12, null, 13],
+                                              "errors": [
+                                                {
+                                                  "index": 1,
+                                                  "message": "Task title cannot be empty"
+                                                }
+                                              ]
+                                            }
+                                            """
+                            )
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Empty or malformed body",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(
+                                    name = "Error while creating tasks",
+                                    value = "Malformed task at line 3"
+                            )
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "413",
+                    description = "More tasks than app.tasks.bulk-max-items",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(
+                                    name = "Too many tasks",
+                                    value = "At most 10000 tasks can be created in one request"
+                            )
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "503",
+                    description = "Database error",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(
+                                    name = "Error while creating tasks",
+                                    value = "Internal Server Error"
+                            )
+                    )
+            )
+    })
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ApiResult<?>> createTasks(
+            @Parameter(description = "Array of task objects", required = true)
+            @RequestBody List<Task> tasks) {
+        log.debug("In TaskController.createTasks() totalTasks={}", tasks == null ? 0 : tasks.size());
+
+        if (tasks != null && tasks.size() > bulkMaxItems) {
+            log.warn("Out TaskController.createTasks(), too many tasks={}", tasks.size());
+            return ResponseEntity.status(HttpStatus.CONTENT_TOO_LARGE).body(ApiResult.payloadTooLarge(String.format(TOO_MANY_TASKS, bulkMaxItems)));
+        }
+
+        return bulkCreate(tasks);
+    }
+
+    @Operation(
+            summary = "Create tasks in bulk from NDJSON",
+            description = "Same as the JSON array form of /bulk, but the body is application/x-ndjson with one task object per line, read as it streams in. Blank lines are skipped; a line that is not a valid task object rejects the whole request with its line number, and so does going past app.tasks.bulk-max-items tasks",
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "One task object per line",
+                    required = true,
+                    content = @Content(
+                            mediaType = "application/x-ndjson",
+                            examples = @ExampleObject(
+                                    name = "Two tasks",
+                                    value = """
+                                            {"title": "Write release notes", "description": "Summarize the sprint", "startDate": "2025-03-01", "endDate": "2025-03-05", "status": "TODO", "priority": "MEDIUM"}
+                                            {"title": "Tag the release", "description": "Cut v1.4.0", "startDate": "2025-03-06", "endDate": "2025-03-06", "status": "TODO", "priority": "HIGH"}
+                                            """
+                            )
+                    )
+            )
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "201",
+                    description = "Valid tasks created, ids returned in line order",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(
+                                    name = "Tasks Created",
+                                    value = """
+                                            {
+                                              "ids": [12, null, 13],
+                                              "errors": [
+                                                {
+                                                  "index": 1,
+                                                  "message": "Task title cannot be empty"
+                                                }
+                                              ]
+                                            }
+                                            """
+                            )
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Empty body or a line that is not a task object",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(
+                                    name = "Error while creating tasks",
+                                    value = "Malformed task at line 3"
+                            )
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "413",
+                    description = "More tasks than app.tasks.bulk-max-items",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(
+                                    name = "Too many tasks",
+                                    value = "At most 10000 tasks can be created in one request"
+                            )
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "503",
+                    description = "Database error",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(
+                                    name = "Error while creating tasks",
+                                    value = "Internal Server Error"
+                            )
+                    )
+            )
+    })
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<ApiResult<?>> createTasksFromNdjson(InputStream body) {
+        log.debug("In TaskController.createTasksFromNdjson()");
+
+        List<Task> tasks = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                // Stop reading as soon as the body is known to be too big, instead of buffering all of it
+                if (tasks.size() == bulkMaxItems) {
+                    log.warn("Out TaskController.createTasksFromNdjson(), more than {} tasks", bulkMaxItems);
+                    return ResponseEntity.status(HttpStatus.CONTENT_TOO_LARGE).body(ApiResult.payloadTooLarge(String.format(TOO_MANY_TASKS, bulkMaxItems)));
+                }
+                try {
+                    tasks.add(jsonMapper.readValue(line, Task.class));
+                } catch (JacksonException ex) {
+                    log.warn("Out TaskController.createTasksFromNdjson(), malformed line={}", lineNumber);
+                    return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ApiResult.badRequest(String.format(MALFORMED_TASK_LINE, lineNumber)));
+                }
+            }
+        } catch (IOException ex) {
+            log.error("Out TaskController.createTasksFromNdjson(), {},{}", INTERNAL_SERVER_ERROR, ex.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(ApiResult.internalServerError(INTERNAL_SERVER_ERROR+ex.getMessage()));
+        }
+
+        return bulkCreate(tasks);
+    }
+
+    private ResponseEntity<ApiResult<?>> bulkCreate(List<Task> tasks) {
+        try {
+            BulkCreateResult result = taskService.createTasks(tasks);
+
+            log.debug("Out TaskController.createTasks(), tasks rejected={}", result.errors().size());
+            return ResponseEntity.status(HttpStatus.CREATED).body(ApiResult.created(result,"Created " + (tasks.size() - result.errors().size()) + " of " + tasks.size() + " tasks"));
+
+        } catch (IllegalArgumentException ex) {
+            log.warn("Out TaskController.createTasks(), invalid input: {}", ex.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ApiResult.badRequest(ex.getMessage()));
+
+        } catch (Exception ex) {
+            log.error("Out TaskController.createTasks(), {},{}", INTERNAL_SERVER_ERROR, ex.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(ApiResult.internalServerError(INTERNAL_SERVER_ERROR+ex.getMessage()));
+        }
+    }
+
     @Operation(
             summary = "Get tasks",
-            description = "Fetches all tasks or filters tasks by status or priority"
+            description = "Fetches tasks matching every given criterion: status, priority and assignee sets, tags (any or all), inclusive start/end date ranges and deleted flag. Archived tasks are included only with includeArchived. Repeat a parameter or comma-separate values to pass a set. Passing limit or cursor returns a keyset page ordered by creation time"
     )
     @ApiResponses({
             @ApiResponse(
@@ -176,6 +406,17 @@ public class TaskController {
                             )
                     )
             ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid page limit, cursor or date range",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(
+                                    name = "Error while fetching tasks",
+                                    value = "Invalid page cursor"
+                            )
+                    )
+            ),
             @ApiResponse(
                     responseCode = "503",
                     description = "Database error",
@@ -190,33 +431,298 @@ public class TaskController {
     })
     @GetMapping
     public ResponseEntity<ApiResult<?>> getTasks(
-            @Parameter(description = "Filter tasks by status", example = "IN_PROGRESS")
-            @RequestParam(required = false) StatusType status,
-            @Parameter(description = "Filter tasks by priority", example = "HIGH")
-            @RequestParam(required = false) PriorityType priority) {
+            @Parameter(description = "Filter tasks by one or more statuses", example = "IN_PROGRESS")
+            @RequestParam(required = false) List<StatusType> status,
+            @Parameter(description = "Filter tasks by one or more priorities", example = "HIGH")
+            @RequestParam(required = false) List<PriorityType> priority,
+            @Parameter(description = "Filter tasks by one or more assigned employee IDs", example = "3")
+            @RequestParam(required = false) List<Integer> assignee,
+            @Parameter(description = "Filter tasks by one or more tags", example = "backend")
+            @RequestParam(required = false) List<String> tag,
+            @Parameter(description = "Whether a task must carry any or all of the given tags", example = "any")
+            @RequestParam(defaultValue = "any") String match,
+            @Parameter(description = "Earliest start date, inclusive", example = "2026-01-01")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startFrom,
+            @Parameter(description = "Latest start date, inclusive", example = "2026-01-31")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startTo,
+            @Parameter(description = "Earliest end date, inclusive", example = "2026-02-01")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endFrom,
+            @Parameter(description = "Latest end date, inclusive", example = "2026-02-28")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endTo,
+            @Parameter(description = "Return deleted tasks instead of live ones", example = "false")
+            @RequestParam(defaultValue = "false") boolean deleted,
+            @Parameter(description = "Also return tasks that were moved to the archive", example = "false")
+            @RequestParam(defaultValue = "false") boolean includeArchived,
+            @Parameter(description = "Opaque cursor returned as nextCursor by the previous page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size, up to 500. Setting limit or cursor switches the response to a page", example = "50")
+            @RequestParam(required = false) Integer limit) {
 
-        log.info("In TaskController.getTasks() status={}, priority={}", status, priority);
+        log.debug("In TaskController.getTasks() status={}, priority={}, assignee={}, tag={}, match={}, limit={}", status, priority, assignee, tag, match, limit);
 
         try {
-            if (status != null) {
-                log.info("Out TaskController.getTasks(), fetching by status={}", status);
-                return ResponseEntity.status(HttpStatus.OK).body(ApiResult.ok(taskService.getTaskByStatus(status),"Got tasks by status successfully"));
+            TaskFilter filter = new TaskFilter(status, priority, assignee, tag, parseTagMatch(match), startFrom, startTo, endFrom, endTo, deleted, includeArchived);
+
+            if (cursor != null || limit != null) {
+                TaskPage page = taskService.getTaskPage(filter, cursor, limit);
+                log.debug("Out TaskController.getTasks(), fetched page of size={}", page.items().size());
+                return ResponseEntity.status(HttpStatus.OK).body(ApiResult.ok(page,"Got page of tasks successfully"));
             }
 
-            if (priority != null) {
-                log.info("Out TaskController.getTasks(), fetching by priority={}", priority);
-                return ResponseEntity.status(HttpStatus.OK).body(ApiResult.ok(taskService.getTaskByPriority(priority),"Got tasks by priority successfully"));
+            if (filter.hasCriteria()) {
+                List<TaskDTO> tasks = taskService.findTasks(filter);
+                log.debug("Out TaskController.getTasks(), fetched filtered tasks size={}", tasks.size());
+                return ResponseEntity.status(HttpStatus.OK).body(ApiResult.ok(tasks,"Got filtered tasks successfully"));
             }
 
-            log.info("Out TaskController.getTasks(), fetching all tasks");
+            log.debug("Out TaskController.getTasks(), fetching all tasks");
             return ResponseEntity.status(HttpStatus.OK).body(ApiResult.ok(taskService.getAllTask(),"Got tasks successfully"));
 
+        } catch (IllegalArgumentException ex) {
+            log.warn("Out TaskController.getTasks(), invalid input: {}", ex.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ApiResult.badRequest(ex.getMessage()));
+
         } catch (Exception ex) {
             log.error("Out TaskController.getTasks(), {},{}", INTERNAL_SERVER_ERROR, ex.getMessage());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(ApiResult.internalServerError(INTERNAL_SERVER_ERROR+ex.getMessage()));
         }
     }
 
+    private static TagMatch parseTagMatch(String match) {
+        for (TagMatch value : TagMatch.values()) {
+            if (value.name().equalsIgnoreCase(match)) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException(String.format(INVALID_TAG_MATCH, match));
+    }
+
+    @Operation(
+            summary = "Get task statistics",
+            description = "Returns live task counts per status and priority plus overdue and unassigned totals, served from in-memory counters"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Statistics fetched successfully",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(
+                                    name = "task statistics",
+                                    value = """
+                                            {
+                                              "data": {
+                                                "counts": {
+                                                  "TODO": {"LOW": 4, "MEDIUM": 7, "HIGH": 2, "CRITICAL": 1},
+                                                  "IN_PROGRESS": {"LOW": 1, "MEDIUM": 3, "HIGH": 2, "CRITICAL": 0},
+                                                  "REVIEW": {"LOW": 0, "MEDIUM": 1, "HIGH": 1, "CRITICAL": 0},
+                                                  "DONE": {"LOW": 9, "MEDIUM": 5, "HIGH": 3, "CRITICAL": 1}
+                                                },
+                                                "total": 40,
+                                                "overdue": 3,
+                                                "unassigned": 11
+                                              },
+                                              "message": "Got task statistics successfully",
+                                              "status": 200,
+                                              "success": true
+                                            }
+                                            """
+                            )
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "503",
+                    description = "Database error",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(
+                                    name = "Error while fetching statistics",
+                                    value = "Internal Server Error"
+                            )
+                    )
+            )
+    })
+    @GetMapping("/stats")
+    public ResponseEntity<ApiResult<?>> getTaskStats() {
+        log.debug("In TaskController.getTaskStats()");
+
+        try {
+            TaskStats stats = taskService.getTaskStats();
+            log.debug("Out TaskController.getTaskStats(), total={}", stats.total());
+            return ResponseEntity.status(HttpStatus.OK).body(ApiResult.ok(stats,"Got task statistics successfully"));
+
+        } catch (Exception ex) {
+            log.error("Out TaskController.getTaskStats(), {},{}", INTERNAL_SERVER_ERROR, ex.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(ApiResult.internalServerError(INTERNAL_SERVER_ERROR+ex.getMessage()));
+        }
+    }
+
+    @Operation(
+            summary = "Search tasks",
+            description = "Full-text search over task title and description. Supports quoted phrases, OR and -exclusion. Results are ranked by relevance, paged by page/limit and carry highlighted title and description excerpts"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Search completed successfully",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(
+                                    name = "search results",
+                                    value = """
+                                            {
+                                              "data": {
+                                                "items": [
+                                                  {
+                                                    "task": {
+                                                      "id": 3,
+                                                      "title": "Fix login bug in auth service",
+                                                      "description": "Users cannot log in when the session token expires",
+                                                      "createdAt": "2026-01-08T12:33:11.976668",
+                                                      "updatedAt": "2026-01-08T12:33:11.976668",
+                                                      "assignedEmployeeId": null,
+                                                      "startDate": "2026-01-01",
+                                                      "endDate": "2026-02-02",
+                                                      "tags": ["auth"],
+                                                      "status": "TODO",
+                                                      "priority": "HIGH"
+                                                    },
+                                                    "rank": 0.66871977,
+                                                    "titleHighlight": "Fix <mark>login</mark> bug in auth service",
+                                                    "descriptionHighlight": "Users cannot log in when the session token expires"
+                                                  }
+                                                ],
+                                                "page": 1,
+                                                "limit": 20,
+                                                "hasMore": false
+                                              },
+                                              "message": "Searched tasks successfully",
+                                              "status": 200,
+                                              "success": true
+                                            }
+                                            """
+                            )
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Empty query or invalid page/limit",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(
+                                    name = "Error while searching tasks",
+                                    value = "Search query cannot be empty"
+                            )
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "503",
+                    description = "Database error",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(
+                                    name = "Error while searching tasks",
+                                    value = "Internal Server Error"
+                            )
+                    )
+            )
+    })
+    @GetMapping("/search")
+    public ResponseEntity<ApiResult<?>> searchTasks(
+            @Parameter(description = "Search text, web-search syntax", example = "login bug", required = true)
+            @RequestParam String q,
+            @Parameter(description = "1-based page number", example = "1")
+            @RequestParam(required = false) Integer page,
+            @Parameter(description = "Page size, up to 500", example = "20")
+            @RequestParam(required = false) Integer limit) {
+        log.debug("In TaskController.searchTasks() q={}, page={}, limit={}", q, page, limit);
+
+        try {
+            TaskSearchPage result = taskService.searchTasks(q, page, limit);
+            log.debug("Out TaskController.searchTasks(), totalHits={}", result.items().size());
+            return ResponseEntity.status(HttpStatus.OK).body(ApiResult.ok(result,"Searched tasks successfully"));
+
+        } catch (IllegalArgumentException ex) {
+            log.warn("Out TaskController.searchTasks(), invalid input: {}", ex.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ApiResult.badRequest(ex.getMessage()));
+
+        } catch (Exception ex) {
+            log.error("Out TaskController.searchTasks(), {},{}", INTERNAL_SERVER_ERROR, ex.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(ApiResult.internalServerError(INTERNAL_SERVER_ERROR+ex.getMessage()));
+        }
+    }
+
+    @Operation(
+            summary = "Export all tasks",
+            description = "Streams every non-deleted task as newline-delimited JSON, one task per line, as rows are read from the database"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Tasks streamed successfully",
+                    content = @Content(
+                            mediaType = "application/x-ndjson",
+                            examples = @ExampleObject(
+                                    name = "exported tasks",
+                                    value = """
+                                            {"id":1,"title":"Hello","description":"myDesc","createdAt":"2026-01-07T18:11:10.404452","updatedAt":"2026-01-08T10:11:55.707011","assignedEmployeeId":null,"startDate":"2026-01-01","endDate":"2026-02-02","tags":[],"status":"TODO","priority":"HIGH"}
+                                            {"id":2,"title":"Test1","description":"Test1","createdAt":"2026-01-08T12:33:11.976668","updatedAt":"2026-01-08T12:33:11.976668","assignedEmployeeId":1,"startDate":"2026-01-01","endDate":"2026-02-02","tags":["Red"],"status":"DONE","priority":"LOW"}
+                                            """
+                            )
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Unsupported export format",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(
+                                    name = "Error while exporting tasks",
+                                    value = "Unsupported export format csv"
+                            )
+                    )
+            )
+    })
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTasks(
+            @Parameter(description = "Export format, only ndjson is supported", example = "ndjson")
+            @RequestParam(defaultValue = EXPORT_FORMAT_NDJSON) String format) {
+        log.debug("In TaskController.exportTasks() format={}", format);
+
+        if (!EXPORT_FORMAT_NDJSON.equalsIgnoreCase(format)) {
+            log.warn("Out TaskController.exportTasks(), unsupported format={}", format);
+            ApiResult<?> error = ApiResult.badRequest(String.format(UNSUPPORTED_EXPORT_FORMAT, format));
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).contentType(MediaType.APPLICATION_JSON).body(out -> out.write(jsonMapper.writeValueAsBytes(error)));
+        }
+
+        // The body is written from an async thread, which does not inherit the request's MDC
+        Map<String, String> mdc = MDC.getCopyOfContextMap();
+        StreamingResponseBody body = out -> {
+            if (mdc != null) {
+                MDC.setContextMap(mdc);
+            }
+            try {
+                writeExport(out);
+            } finally {
+                MDC.clear();
+            }
+        };
+
+        return ResponseEntity.status(HttpStatus.OK).contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    private void writeExport(OutputStream out) {
+        int exported = taskService.exportTasks(task -> {
+            try {
+                out.write(jsonMapper.writeValueAsBytes(task));
+                out.write('\n');
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        });
+        log.debug("Out TaskController.exportTasks(), totalTasks={}", exported);
+    }
+
     @Operation(
             summary = "Get task by ID",
             description = "Fetches task details for a given task ID"
@@ -286,8 +792,10 @@ public class TaskController {
     @GetMapping("/{id}")
     public ResponseEntity<ApiResult<?>> getTaskById(
             @Parameter(description = "Task ID", example = "10", required = true)
-            @PathVariable Integer id) {
-        log.info("In TaskController.getTaskById() id={}", id);
+            @PathVariable Integer id,
+            @Parameter(description = "Fall back to the archive when the task is no longer live", example = "false")
+            @RequestParam(defaultValue = "false") boolean includeArchived) {
+        log.debug("In TaskController.getTaskById() id={}, includeArchived={}", id, includeArchived);
 
         if (id == null || id < 0) {
             log.warn("Out TaskController.getTaskById(), null id passed, id={} ", id);
@@ -295,8 +803,8 @@ public class TaskController {
         }
 
         try {
-            TaskDTO task = taskService.getTaskById(id);
-            log.info("Out TaskController.getTaskById(), task found id={}", id);
+            TaskDTO task = taskService.getTaskById(id, includeArchived);
+            log.debug("Out TaskController.getTaskById(), task found id={}", id);
             return ResponseEntity.status(HttpStatus.OK).body(ApiResult.ok(task,"Got task for given id successfully"));
 
         } catch (IllegalStateException ex) {
@@ -379,7 +887,7 @@ public class TaskController {
     public ResponseEntity<ApiResult<?>> updateTask(
             @Parameter(description = "Task object containing updated values", required = true)
             @RequestBody Task task) {
-        log.info("In TaskController.updateTask() taskId={}", task.getId());
+        log.debug("In TaskController.updateTask() taskId={}", task.getId());
 
         if (task.getId() == null || task.getId() < 0) {
             log.warn("Out TaskController.updateTask(), invalid task id={}", task.getId());
@@ -394,7 +902,7 @@ public class TaskController {
         try {
             TaskDTO updatedTask = taskService.updateTask(task.getId(), task.getTitle(), task.getDescription(), task.getStartDate(), task.getEndDate(), task.getTags(), task.getStatus(), task.getPriority(), task.getAssignedEmployeeId());
 
-            log.info("Out TaskController.updateTask(), task updated id={}", task.getId());
+            log.debug("Out TaskController.updateTask(), task updated id={}", task.getId());
             return ResponseEntity.status(HttpStatus.OK).body(ApiResult.ok(updatedTask,"Updated task successfully"));
 
         } catch (IllegalArgumentException ex) {
@@ -480,7 +988,7 @@ public class TaskController {
     public ResponseEntity<ApiResult<?>> unAssignTask(
             @Parameter(description = "Task ID", example = "8", required = true)
             @PathVariable Integer id) {
-        log.info("In TaskController.unAssignTask() id={}", id);
+        log.debug("In TaskController.unAssignTask() id={}", id);
 
         if (id == null || id < 0) {
             log.warn("Out TaskController.unAssignTask(), invalid id={}", id);
@@ -489,7 +997,7 @@ public class TaskController {
 
         try {
             TaskDTO task = taskService.unAssignTask(id);
-            log.info("Out TaskController.unAssignTask(), task unassigned id={}", id);
+            log.debug("Out TaskController.unAssignTask(), task unassigned id={}", id);
             return ResponseEntity.status(HttpStatus.OK).body(ApiResult.ok(task,"Unassigned task successfully"));
 
         } catch (IllegalStateException | IllegalArgumentException ex) {
@@ -566,7 +1074,7 @@ public class TaskController {
     public ResponseEntity<ApiResult<?>> getAssignedUser(
             @Parameter(description = "Task ID", example = "4", required = true)
             @PathVariable Integer id) {
-        log.info("In TaskController.getAssignedUser() taskId={}", id);
+        log.debug("In TaskController.getAssignedUser() taskId={}", id);
 
         if (id == null || id < 0) {
             log.warn("Out TaskController.getAssignedUser(), invalid task id={}", id);
@@ -575,7 +1083,7 @@ public class TaskController {
 
         try {
             EmployeeDTO employee = assignmentService.getAssignedUser(id);
-            log.info("Out TaskController.getAssignedUser(), employee found for taskId={}", id);
+            log.debug("Out TaskController.getAssignedUser(), employee found for taskId={}", id);
             return ResponseEntity.status(HttpStatus.OK).body(ApiResult.ok(employee,"Got assigned user successfully"));
 
         }
@@ -644,14 +1152,14 @@ public class TaskController {
     public ResponseEntity<ApiResult<?>> deleteTask(
             @Parameter(description = "Task ID", example = "5", required = true)
             @PathVariable Integer id) {
-        log.info("In TaskController.deleteTask(){}", id);
+        log.debug("In TaskController.deleteTask(){}", id);
         if (id == null || id < 0) {
             log.warn("Out TaskController.deleteTask(), null id passed, id={} ", id);
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ApiResult.badRequest("Null/Negative Id passed"));
         }
         try {
             taskService.deleteTask(id);
-            log.info("Out TaskController.deleteTask(),task deleted successfully");
+            log.debug("Out TaskController.deleteTask(),task deleted successfully");
             return ResponseEntity.status(HttpStatus.OK).body(ApiResult.ok(new IdResponse(id),"Task deleted successfully"));
         } catch (IllegalStateException ex) {
             log.warn("Out TaskController.deleteTask(), task with id={} not found", id);
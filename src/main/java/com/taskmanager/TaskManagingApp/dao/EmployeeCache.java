@@ -0,0 +1,72 @@
+package com.taskmanager.TaskManagingApp.dao;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.taskmanager.TaskManagingApp.dto.EmployeeCacheStats;
+import com.taskmanager.TaskManagingApp.dto.EmployeeDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Bounded read-through cache of employee rows keyed by id: every row that is not soft-deleted,
+ * deactivated employees included, since callers check isDeactivated on what they get back.
+ * <p>
+ * Eviction is size based (W-TinyLFU) with a write TTL as a safety net; every EmployeeDAO write
+ * invalidates the affected id, and {@link InvalidationBus} does the same for writes made on other
+ * nodes. Lookups that find no row are not cached, so a freshly created
+ * employee is visible immediately.
+ */
+@Component
+public class EmployeeCache implements InvalidationListener {
+
+    private final Cache<Integer, EmployeeDTO> cache;
+    private final LongAdder invalidations = new LongAdder();
+
+    public EmployeeCache(@Value("${app.employee-cache.maximum-size:10000}") long maximumSize,
+                         @Value("${app.employee-cache.expire-after-write:10m}") Duration expireAfterWrite) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+    }
+
+    public EmployeeDTO get(Integer id, Function<Integer, EmployeeDTO> loader) {
+        return cache.get(id, loader);
+    }
+
+    public void invalidate(Integer id) {
+        cache.invalidate(id);
+        invalidations.increment();
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+        invalidations.increment();
+    }
+
+    @Override
+    public InvalidationEntity entity() {
+        return InvalidationEntity.EMPLOYEE;
+    }
+
+    @Override
+    public void evict(Integer id) {
+        invalidate(id);
+    }
+
+    @Override
+    public void evictAll() {
+        invalidateAll();
+    }
+
+    public EmployeeCacheStats stats() {
+        CacheStats stats = cache.stats();
+        return new EmployeeCacheStats(cache.estimatedSize(), stats.hitCount(), stats.missCount(), stats.hitRate(), stats.evictionCount(), invalidations.sum());
+    }
+}
@@ -1,7 +1,10 @@
 package com.taskmanager.TaskManagingApp.dao;
 
 import com.taskmanager.TaskManagingApp.dto.EmployeeDTO;
+import com.taskmanager.TaskManagingApp.dto.EmployeeWorkload;
 import com.taskmanager.TaskManagingApp.models.Employee;
+import com.taskmanager.TaskManagingApp.models.PriorityType;
+import com.taskmanager.TaskManagingApp.models.StatusType;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
@@ -9,7 +12,9 @@ import org.springframework.stereotype.Repository;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -18,13 +23,32 @@ import java.util.Map;
 @Repository
 public class EmployeeDAO {
 
+    private static final int NAME_FIELD = 1;
+    private static final int EMAIL_FIELD = 1 << 1;
+
+    private static final int WORKLOAD_AFTER = 1;
+    private static final int WORKLOAD_LIMIT = 1 << 1;
+
+    private static final StatusType[] STATUSES = StatusType.values();
+    private static final PriorityType[] PRIORITIES = PriorityType.values();
+
     private final JdbcTemplate jdbcTemplate;
+    private final StatementShapeCache shapes;
+    private final EmployeeCache employeeCache;
+    private final InvalidationBus invalidationBus;
+    private final TaskStatsCounters taskStats;
+    private final TaskLookupCache lookup;
 
-    public EmployeeDAO(JdbcTemplate jdbcTemplate) {
+    public EmployeeDAO(JdbcTemplate jdbcTemplate, StatementShapeCache shapes, EmployeeCache employeeCache, InvalidationBus invalidationBus, TaskStatsCounters taskStats, TaskLookupCache lookup) {
         this.jdbcTemplate = jdbcTemplate;
+        this.shapes = shapes;
+        this.employeeCache = employeeCache;
+        this.invalidationBus = invalidationBus;
+        this.taskStats = taskStats;
+        this.lookup = lookup;
     }
 
-    private final RowMapper<EmployeeDTO> employeeRowMapper = new RowMapper<EmployeeDTO>() {
+    final RowMapper<EmployeeDTO> employeeRowMapper = new RowMapper<EmployeeDTO>() {
         @Override
         public EmployeeDTO mapRow(ResultSet rs, int rowNum) throws SQLException {
             return new EmployeeDTO(rs.getInt("id"), rs.getString("name"), rs.getString("email"), rs.getBoolean("is_deactivated"), rs.getTimestamp("created_at").toLocalDateTime(), rs.getTimestamp("updated_at").toLocalDateTime());
@@ -32,7 +56,7 @@ public class EmployeeDAO {
     };
 
     public Integer createEmployee(String name, String email) {
-        log.info("In EmployeeDAO.createEmployee() name={}, email={}", name, email);
+        log.debug("In EmployeeDAO.createEmployee() name={}, email={}", name, email);
 
         String sql = """
                 INSERT INTO tbl_master_employee
@@ -41,93 +65,131 @@ public class EmployeeDAO {
                 RETURNING id
                 """;
 
+        // Nothing to invalidate: EmployeeCache does not cache lookups that found no row
         Integer id = jdbcTemplate.queryForObject(sql, Integer.class, name, email);
-        log.info("Out EmployeeDAO.createEmployee(), created employee id={}", id);
+        log.debug("Out EmployeeDAO.createEmployee(), created employee id={}", id);
 
         return id;
     }
 
     public boolean existingEmployeeByEmail(String email) {
-        log.info("In EmployeeDAO.existingEmployeeByEmail() email={}", email);
+        log.debug("In EmployeeDAO.existingEmployeeByEmail() email={}", email);
 
         String sql = "SELECT COUNT(*) FROM tbl_master_employee WHERE email=?";
         Integer count = jdbcTemplate.queryForObject(sql, Integer.class, email);
 
         boolean exists = count != null && count > 0;
-        log.info("Out EmployeeDAO.existingEmployeeByEmail(), exists={}", exists);
+        log.debug("Out EmployeeDAO.existingEmployeeByEmail(), exists={}", exists);
 
         return exists;
     }
 
     public EmployeeDTO findEmployeeById(Integer id) {
-        log.info("In EmployeeDAO.findEmployeeById() id={}", id);
+        log.debug("In EmployeeDAO.findEmployeeById() id={}", id);
 
-        String sql = "SELECT * FROM tbl_master_employee WHERE id=? AND is_deleted=FALSE";
-        List<EmployeeDTO> result = jdbcTemplate.query(sql, employeeRowMapper, id);
+        EmployeeDTO employee = employeeCache.get(id, this::loadEmployeeById);
 
-        if (result.isEmpty()) {
-            log.info("Out EmployeeDAO.findEmployeeById(), no employee found id={}", id);
+        if (employee == null) {
+            log.debug("Out EmployeeDAO.findEmployeeById(), no employee found id={}", id);
             return null;
         }
 
-        log.info("Out EmployeeDAO.findEmployeeById(), employee found id={}", id);
-        return result.getFirst();
+        log.debug("Out EmployeeDAO.findEmployeeById(), employee found id={}", id);
+        return employee;
+    }
+
+    private EmployeeDTO loadEmployeeById(Integer id) {
+        String sql = "SELECT * FROM tbl_master_employee WHERE id=? AND is_deleted=FALSE";
+        List<EmployeeDTO> result = jdbcTemplate.query(sql, employeeRowMapper, id);
+
+        return result.isEmpty() ? null : result.getFirst();
     }
 
     public Integer updateInfo(Integer id, String name, String email) {
-        log.info("In EmployeeDAO.updateInfo() id={}, name={}, email={}", id, name, email);
+        log.debug("In EmployeeDAO.updateInfo() id={}, name={}, email={}", id, name, email);
 
-        StringBuilder sql = new StringBuilder("UPDATE tbl_master_employee SET updated_at = CURRENT_TIMESTAMP");
+        boolean hasName = name != null && !name.isBlank();
+        boolean hasEmail = email != null && !email.isBlank();
+        int fieldMask = (hasName ? NAME_FIELD : 0) | (hasEmail ? EMAIL_FIELD : 0);
 
-        List<Object> params = new ArrayList<>();
+        String sql = shapes.sql("employee.updateInfo", fieldMask, EmployeeDAO::buildUpdateInfoSql);
 
-        if (name != null && !name.isBlank()) {
-            sql.append(", name = ?");
+        List<Object> params = new ArrayList<>(3);
+        if (hasName) {
             params.add(name);
         }
-
-        if (email != null && !email.isBlank()) {
-            sql.append(", email = ?");
+        if (hasEmail) {
             params.add(email);
         }
-
-        sql.append(" WHERE id = ?");
         params.add(id);
+        params.add(invalidationBus.notifyPrefix(InvalidationEntity.EMPLOYEE));
 
-        int affected = jdbcTemplate.update(sql.toString(), params.toArray());
-        log.info("Out EmployeeDAO.updateInfo(), rows affected={}", affected);
+        int affected = jdbcTemplate.queryForObject(sql, (rs, rowNum) -> rs.getInt("affected"), params.toArray());
+        employeeCache.invalidate(id);
+        log.debug("Out EmployeeDAO.updateInfo(), rows affected={}", affected);
 
         return affected;
     }
 
+    static String buildUpdateInfoSql(int fieldMask) {
+        StringBuilder sql = new StringBuilder("WITH updated AS (\n    UPDATE tbl_master_employee SET updated_at = CURRENT_TIMESTAMP");
+
+        if ((fieldMask & NAME_FIELD) != 0) {
+            sql.append(", name = ?");
+        }
+
+        if ((fieldMask & EMAIL_FIELD) != 0) {
+            sql.append(", email = ?");
+        }
+
+        sql.append(" WHERE id = ?\n    RETURNING id\n),\n")
+                .append(InvalidationBus.notifyCte("updated"))
+                .append("\nSELECT (SELECT count(*) FROM updated) AS affected, (SELECT count(*) FROM notified) AS notifications");
+        return sql.toString();
+    }
+
     public void deactivateEmployee(Integer id) {
-        log.info("In EmployeeDAO.deactivateEmployee() id={}", id);
+        log.debug("In EmployeeDAO.deactivateEmployee() id={}", id);
 
         String sql = """
-                UPDATE tbl_master_employee
-                SET is_deactivated=true, updated_at=CURRENT_TIMESTAMP
-                WHERE id=?
+                WITH updated AS (
+                    UPDATE tbl_master_employee
+                    SET is_deactivated=true, updated_at=CURRENT_TIMESTAMP
+                    WHERE id=?
+                    RETURNING id
+                ),
+                """ + InvalidationBus.notifyCte("updated") + """
+
+                SELECT (SELECT count(*) FROM notified) AS notifications
                 """;
 
-        jdbcTemplate.update(sql, id);
-        log.info("Out EmployeeDAO.deactivateEmployee(), employee deactivated id={}", id);
+        jdbcTemplate.queryForObject(sql, Integer.class, id, invalidationBus.notifyPrefix(InvalidationEntity.EMPLOYEE));
+        employeeCache.invalidate(id);
+        log.debug("Out EmployeeDAO.deactivateEmployee(), employee deactivated id={}", id);
     }
 
     public void activateEmployee(Integer id) {
-        log.info("In EmployeeDAO.activateEmployee() id={}", id);
+        log.debug("In EmployeeDAO.activateEmployee() id={}", id);
 
         String sql = """
-                UPDATE tbl_master_employee
-                SET is_deactivated=false, updated_at=CURRENT_TIMESTAMP
-                WHERE id=?
+                WITH updated AS (
+                    UPDATE tbl_master_employee
+                    SET is_deactivated=false, updated_at=CURRENT_TIMESTAMP
+                    WHERE id=?
+                    RETURNING id
+                ),
+                """ + InvalidationBus.notifyCte("updated") + """
+
+                SELECT (SELECT count(*) FROM notified) AS notifications
                 """;
 
-        jdbcTemplate.update(sql, id);
-        log.info("Out EmployeeDAO.deactivateEmployee(), employee deactivated id={}", id);
+        jdbcTemplate.queryForObject(sql, Integer.class, id, invalidationBus.notifyPrefix(InvalidationEntity.EMPLOYEE));
+        employeeCache.invalidate(id);
+        log.debug("Out EmployeeDAO.deactivateEmployee(), employee deactivated id={}", id);
     }
 
     public Map<Integer, EmployeeDTO> findAllEmployee() {
-        log.info("In EmployeeDAO.findAllEmployee()");
+        log.debug("In EmployeeDAO.findAllEmployee()");
 
         String sql = "SELECT * FROM tbl_master_employee WHERE is_deleted=false";
 
@@ -141,12 +203,12 @@ public class EmployeeDAO {
             return map;
         });
 
-        log.info("Out EmployeeDAO.findAllEmployee(), totalEmployees={}", result.size());
+        log.debug("Out EmployeeDAO.findAllEmployee(), totalEmployees={}", result.size());
         return result;
     }
 
     public void deleteEmployee(Integer id) {
-        log.info("In EmployeeDAO.deleteEmployee() id={}", id);
+        log.debug("In EmployeeDAO.deleteEmployee() id={}", id);
 
         String unassignTasksSql = """
                 UPDATE tbl_master_tasks
@@ -159,20 +221,30 @@ public class EmployeeDAO {
         String deleteMappingSql = "DELETE FROM tbl_employee_task_mapping WHERE employee_id=?";
 
         String softDeleteEmployeeSql = """
-                UPDATE tbl_master_employee
-                SET is_deleted=true, updated_at=CURRENT_TIMESTAMP
-                WHERE id=?
+                WITH deleted AS (
+                    UPDATE tbl_master_employee
+                    SET is_deleted=true, updated_at=CURRENT_TIMESTAMP
+                    WHERE id=?
+                    RETURNING id
+                ),
+                """ + InvalidationBus.notifyCte("deleted") + """
+
+                SELECT (SELECT count(*) FROM notified) AS notifications
                 """;
 
         jdbcTemplate.update(unassignTasksSql, id);
         jdbcTemplate.update(deleteMappingSql, id);
-        jdbcTemplate.update(softDeleteEmployeeSql, id);
+        jdbcTemplate.queryForObject(softDeleteEmployeeSql, Integer.class, id, invalidationBus.notifyPrefix(InvalidationEntity.EMPLOYEE));
+        employeeCache.invalidate(id);
+        // Tasks were unassigned in bulk, so the unassigned counter has to be recounted
+        taskStats.markStale();
+        invalidationBus.publishAll(InvalidationEntity.TASK);
 
-        log.info("Out EmployeeDAO.deleteEmployee(), employee soft-deleted id={}", id);
+        log.debug("Out EmployeeDAO.deleteEmployee(), employee soft-deleted id={}", id);
     }
 
     public Map<Integer, EmployeeDTO> findEmployeesByIds(List<Integer> ids) {
-        log.info("In EmployeeDAO.findEmployeesByIds() ids={}", ids);
+        log.debug("In EmployeeDAO.findEmployeesByIds() ids={}", ids);
 
         String placeholders = String.join(",", ids.stream().map(id -> "?").toList());
 
@@ -193,7 +265,85 @@ public class EmployeeDAO {
             return map;
         }, ids.toArray());
 
-        log.info("Out EmployeeDAO.findEmployeesByIds(), totalEmployeesFound={}", result.size());
+        log.debug("Out EmployeeDAO.findEmployeesByIds(), totalEmployeesFound={}", result.size());
         return result;
     }
+
+    public List<EmployeeWorkload> findEmployeeWorkloads(Integer afterId, Integer limit) {
+        log.debug("In EmployeeDAO.findEmployeeWorkloads() afterId={}, limit={}", afterId, limit);
+
+        int fieldMask = (afterId != null ? WORKLOAD_AFTER : 0) | (limit != null ? WORKLOAD_LIMIT : 0);
+        String sql = shapes.sql("employee.workload", fieldMask, EmployeeDAO::buildWorkloadSql);
+
+        // The FILTER columns are bound to the lookup ids in enum order, matching buildWorkloadSql
+        List<Object> params = new ArrayList<>();
+        for (StatusType status : STATUSES) {
+            params.add(lookup.statusId(status));
+        }
+        for (PriorityType priority : PRIORITIES) {
+            params.add(lookup.priorityId(priority));
+        }
+        params.add(lookup.statusId(StatusType.DONE));
+        if (afterId != null) {
+            params.add(afterId);
+        }
+        if (limit != null) {
+            params.add(limit);
+        }
+
+        List<EmployeeWorkload> workloads = jdbcTemplate.query(sql, (rs, rowNum) -> {
+            Map<StatusType, Long> byStatus = new EnumMap<>(StatusType.class);
+            for (StatusType status : STATUSES) {
+                byStatus.put(status, rs.getLong("status_" + status.ordinal()));
+            }
+            Map<PriorityType, Long> byPriority = new EnumMap<>(PriorityType.class);
+            for (PriorityType priority : PRIORITIES) {
+                byPriority.put(priority, rs.getLong("priority_" + priority.ordinal()));
+            }
+            return new EmployeeWorkload(rs.getInt("id"), rs.getString("name"), rs.getString("email"), rs.getLong("total_tasks"), byStatus, byPriority, rs.getObject("nearest_end_date", LocalDate.class));
+        }, params.toArray());
+
+        log.debug("Out EmployeeDAO.findEmployeeWorkloads(), totalEmployees={}", workloads.size());
+        return workloads;
+    }
+
+    // One pass over mapping + tasks for every active employee: each count is a FILTER aggregate, so the
+    // whole team's workload costs a single GROUP BY instead of one task query per employee.
+    static String buildWorkloadSql(int fieldMask) {
+        StringBuilder sql = new StringBuilder("""
+                SELECT
+                    e.id,
+                    e.name,
+                    e.email,
+                    COUNT(t.id) AS total_tasks""");
+
+        for (StatusType status : STATUSES) {
+            sql.append(",\n    COUNT(t.id) FILTER (WHERE t.status = ?) AS status_").append(status.ordinal());
+        }
+        for (PriorityType priority : PRIORITIES) {
+            sql.append(",\n    COUNT(t.id) FILTER (WHERE t.priority = ?) AS priority_").append(priority.ordinal());
+        }
+
+        sql.append("""
+                ,
+                    MIN(t.end_date) FILTER (WHERE t.status <> ?) AS nearest_end_date
+                FROM tbl_master_employee e
+                LEFT JOIN tbl_employee_task_mapping m ON m.employee_id = e.id
+                LEFT JOIN tbl_master_tasks t ON t.id = m.task_id AND t.is_deleted = false
+                WHERE e.is_deleted = false
+                  AND e.is_deactivated = false
+                """);
+
+        if ((fieldMask & WORKLOAD_AFTER) != 0) {
+            sql.append("  AND e.id > ?\n");
+        }
+
+        sql.append("GROUP BY e.id, e.name, e.email\nORDER BY e.id");
+
+        if ((fieldMask & WORKLOAD_LIMIT) != 0) {
+            sql.append("\nLIMIT ?");
+        }
+
+        return sql.toString();
+    }
 }
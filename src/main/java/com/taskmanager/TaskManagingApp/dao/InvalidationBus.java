@@ -0,0 +1,192 @@
+package com.taskmanager.TaskManagingApp.dao;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.UUID;
+
+// Cross-node cache invalidation over LISTEN/NOTIFY, with "nodeId:ENTITY:id" payloads ("*" for every row)
+@Slf4j
+@Component
+public class InvalidationBus {
+
+    static final String CHANNEL = "task_manager_invalidation";
+    private static final String ALL_IDS = "*";
+    private static final int POLL_TIMEOUT_MS = 1000;
+    private static final long MAX_BACKOFF_MS = 30_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final List<InvalidationListener> listeners;
+    private final String url;
+    private final String username;
+    private final String password;
+    private final boolean enabled;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private volatile boolean running;
+    private volatile boolean connected;
+    private Thread listenerThread;
+
+    public InvalidationBus(JdbcTemplate jdbcTemplate,
+                           List<InvalidationListener> listeners,
+                           @Value("${spring.datasource.url}") String url,
+                           @Value("${spring.datasource.username}") String username,
+                           @Value("${spring.datasource.password}") String password,
+                           @Value("${app.invalidation.enabled:true}") boolean enabled) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.listeners = listeners;
+        this.url = url;
+        this.username = username;
+        this.password = password;
+        this.enabled = enabled;
+    }
+
+    @PostConstruct
+    void start() {
+        if (!enabled) {
+            log.info("InvalidationBus.start(), cross-node invalidation disabled");
+            return;
+        }
+
+        running = true;
+        listenerThread = Thread.ofPlatform().daemon().name("invalidation-listener").start(this::listen);
+        log.info("InvalidationBus.start(), listening on channel={} nodeId={}", CHANNEL, nodeId);
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+        }
+    }
+
+    public void publish(InvalidationEntity entity, Integer id) {
+        if (!enabled) {
+            return;
+        }
+
+        String payload = nodeId + ":" + entity.name() + ":" + (id != null ? id : ALL_IDS);
+        jdbcTemplate.query("SELECT pg_notify(?, ?)", rs -> null, CHANNEL, payload);
+    }
+
+    public void publishAll(InvalidationEntity entity) {
+        publish(entity, null);
+    }
+
+    // Null while disabled, which makes notifyCte send nothing
+    public String notifyPrefix(InvalidationEntity entity) {
+        return enabled ? nodeId + ":" + entity.name() + ":" : null;
+    }
+
+    // Notifies each id of source, bound to notifyPrefix; only runs if the main query reads "notified"
+    static String notifyCte(String source) {
+        return """
+                notified AS (
+                    SELECT pg_notify('%s', prefix.value || %s.id)
+                    FROM %s, (SELECT ?::text AS value) AS prefix
+                    WHERE prefix.value IS NOT NULL
+                )""".formatted(CHANNEL, source, source);
+    }
+
+    public boolean isConnected() {
+        return connected;
+    }
+
+    private void listen() {
+        long backoff = POLL_TIMEOUT_MS;
+
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(url, username, password)) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+
+                // NOTIFY is not durable, so whatever was sent while disconnected is gone
+                flushAll();
+                connected = true;
+                backoff = POLL_TIMEOUT_MS;
+                log.info("InvalidationBus.listen(), listener connected");
+
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(POLL_TIMEOUT_MS);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            try {
+                                dispatch(notification.getParameter());
+                            } catch (RuntimeException ex) {
+                                log.error("InvalidationBus.listen(), failed to apply payload={}", notification.getParameter(), ex);
+                            }
+                        }
+                    }
+                }
+            } catch (SQLException ex) {
+                connected = false;
+                if (!running) {
+                    break;
+                }
+                log.warn("InvalidationBus.listen(), listener connection lost, retrying in {}ms: {}", backoff, ex.getMessage());
+                try {
+                    Thread.sleep(backoff);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+                backoff = Math.min(backoff * 2, MAX_BACKOFF_MS);
+            }
+        }
+
+        connected = false;
+        log.info("InvalidationBus.listen(), listener stopped");
+    }
+
+    void dispatch(String payload) {
+        String[] parts = payload.split(":", 3);
+        if (parts.length != 3) {
+            log.warn("InvalidationBus.dispatch(), ignoring malformed payload={}", payload);
+            return;
+        }
+        if (parts[0].equals(nodeId)) {
+            return;
+        }
+
+        InvalidationEntity entity;
+        Integer id;
+        try {
+            entity = InvalidationEntity.valueOf(parts[1]);
+            id = ALL_IDS.equals(parts[2]) ? null : Integer.valueOf(parts[2]);
+        } catch (IllegalArgumentException ex) {
+            log.warn("InvalidationBus.dispatch(), ignoring malformed payload={}", payload);
+            return;
+        }
+
+        for (InvalidationListener listener : listeners) {
+            if (listener.entity() != entity) {
+                continue;
+            }
+            if (id == null) {
+                listener.evictAll();
+            } else {
+                listener.evict(id);
+            }
+        }
+    }
+
+    private void flushAll() {
+        for (InvalidationListener listener : listeners) {
+            listener.evictAll();
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package com.taskmanager.TaskManagingApp.dao;
+
+public enum InvalidationEntity {
+    TASK,
+    EMPLOYEE
+}
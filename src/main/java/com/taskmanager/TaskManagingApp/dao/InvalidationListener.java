@@ -0,0 +1,13 @@
+package com.taskmanager.TaskManagingApp.dao;
+
+/**
+ * Local cache that wants to hear about writes made by other nodes through {@link InvalidationBus}.
+ */
+public interface InvalidationListener {
+
+    InvalidationEntity entity();
+
+    void evict(Integer id);
+
+    void evictAll();
+}
@@ -0,0 +1,174 @@
+package com.taskmanager.TaskManagingApp.dao;
+
+import com.taskmanager.TaskManagingApp.dto.TaskDTO;
+import com.taskmanager.TaskManagingApp.models.PriorityType;
+import com.taskmanager.TaskManagingApp.models.StatusType;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import io.r2dbc.spi.Readable;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Non-blocking counterpart of the TaskDAO read queries on R2DBC, active with the "reactive" profile.
+ * <p>
+ * The connection pool is owned here rather than exposed as a ConnectionFactory bean, because such a
+ * bean would make Spring Boot back off from auto-configuring the JDBC DataSource the rest of the
+ * application runs on. Statements use a fetch size, so the driver pulls rows through a portal in
+ * chunks and only as fast as the subscriber requests them.
+ */
+@Slf4j
+@Profile("reactive")
+@Repository
+public class ReactiveTaskDAO implements DisposableBean {
+
+    private static final String SELECT_TASK = """
+            SELECT
+                t.id,
+                t.title,
+                t.description,
+                t.created_at,
+                t.updated_at,
+                t.assigned_employee_id,
+                t.start_date,
+                t.end_date,
+                t.tags,
+                t.status,
+                t.priority
+            FROM tbl_master_tasks t
+            """;
+
+    private final ConnectionPool pool;
+    private final DatabaseClient databaseClient;
+    private final TaskLookupCache lookup;
+    private final TagDictionary tagDictionary;
+    private final int fetchSize;
+
+    public ReactiveTaskDAO(TaskLookupCache lookup,
+                           TagDictionary tagDictionary,
+                           @Value("${app.reactive.url}") String url,
+                           @Value("${app.reactive.username:${spring.datasource.username}}") String username,
+                           @Value("${app.reactive.password:${spring.datasource.password}}") String password,
+                           @Value("${app.reactive.pool.max-size:10}") int maxPoolSize,
+                           @Value("${app.reactive.fetch-size:256}") int fetchSize) {
+        this.lookup = lookup;
+        this.tagDictionary = tagDictionary;
+        this.fetchSize = fetchSize;
+
+        ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(url).mutate()
+                .option(ConnectionFactoryOptions.USER, username)
+                .option(ConnectionFactoryOptions.PASSWORD, password)
+                .build();
+
+        this.pool = new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+                .name("reactive-tasks")
+                .maxSize(maxPoolSize)
+                .build());
+        this.databaseClient = DatabaseClient.create(pool);
+    }
+
+    public Flux<TaskDTO> getAllTasks() {
+        log.debug("In ReactiveTaskDAO.getAllTasks()");
+
+        String sql = SELECT_TASK + """
+                WHERE t.is_deleted = false
+                ORDER BY t.id
+                """;
+
+        return query(databaseClient.sql(sql))
+                .doOnComplete(() -> log.debug("Out ReactiveTaskDAO.getAllTasks()"));
+    }
+
+    public Mono<TaskDTO> findTaskById(Integer id) {
+        log.debug("In ReactiveTaskDAO.findTaskById() id={}", id);
+
+        String sql = SELECT_TASK + """
+                WHERE t.is_deleted = false AND t.id = :id
+                """;
+
+        return databaseClient.sql(sql)
+                .bind("id", id)
+                .map(this::mapTask)
+                .one()
+                .doOnSuccess(task -> log.debug("Out ReactiveTaskDAO.findTaskById(), found={}, id={}", task != null, id));
+    }
+
+    public Flux<TaskDTO> findTasksByStatus(StatusType status) {
+        log.debug("In ReactiveTaskDAO.findTasksByStatus() status={}", status);
+
+        String sql = SELECT_TASK + """
+                WHERE t.is_deleted = false AND t.status = :status
+                ORDER BY t.id
+                """;
+
+        return query(databaseClient.sql(sql).bind("status", lookup.statusId(status)))
+                .doOnComplete(() -> log.debug("Out ReactiveTaskDAO.findTasksByStatus(), status={}", status));
+    }
+
+    public Flux<TaskDTO> findTasksByPriority(PriorityType priority) {
+        log.debug("In ReactiveTaskDAO.findTasksByPriority() priority={}", priority);
+
+        String sql = SELECT_TASK + """
+                WHERE t.is_deleted = false AND t.priority = :priority
+                ORDER BY t.id
+                """;
+
+        return query(databaseClient.sql(sql).bind("priority", lookup.priorityId(priority)))
+                .doOnComplete(() -> log.debug("Out ReactiveTaskDAO.findTasksByPriority(), priority={}", priority));
+    }
+
+    public Flux<TaskDTO> findTaskByEmployeeId(Integer employeeId) {
+        log.debug("In ReactiveTaskDAO.findTaskByEmployeeId() employeeId={}", employeeId);
+
+        String sql = """
+                SELECT
+                    t.id,
+                    t.title,
+                    t.description,
+                    t.created_at,
+                    t.updated_at,
+                    etm.employee_id AS assigned_employee_id,
+                    t.start_date,
+                    t.end_date,
+                    t.tags,
+                    t.status,
+                    t.priority
+                FROM tbl_master_tasks t
+                JOIN tbl_employee_task_mapping etm ON t.id = etm.task_id
+                WHERE etm.employee_id = :employeeId
+                  AND t.is_deleted = false
+                ORDER BY t.id
+                """;
+
+        return query(databaseClient.sql(sql).bind("employeeId", employeeId))
+                .doOnComplete(() -> log.debug("Out ReactiveTaskDAO.findTaskByEmployeeId(), employeeId={}", employeeId));
+    }
+
+    @Override
+    public void destroy() {
+        pool.dispose();
+    }
+
+    private Flux<TaskDTO> query(DatabaseClient.GenericExecuteSpec spec) {
+        return spec.filter(statement -> statement.fetchSize(fetchSize))
+                .map(this::mapTask)
+                .all();
+    }
+
+    private TaskDTO mapTask(Readable row) {
+        String[] tags = tagDictionary.canonicalize(row.get("tags", String[].class));
+
+        return new TaskDTO(row.get("id", Integer.class), row.get("title", String.class), row.get("description", String.class), row.get("created_at", LocalDateTime.class), row.get("updated_at", LocalDateTime.class), row.get("assigned_employee_id", Integer.class), row.get("start_date", LocalDate.class), row.get("end_date", LocalDate.class), tags, lookup.status(row.get("status", Integer.class)), lookup.priority(row.get("priority", Integer.class)));
+    }
+}
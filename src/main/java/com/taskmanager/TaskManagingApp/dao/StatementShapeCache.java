@@ -0,0 +1,47 @@
+package com.taskmanager.TaskManagingApp.dao;
+
+import com.taskmanager.TaskManagingApp.dto.StatementShapeStats;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntFunction;
+
+/**
+ * Registry of SQL strings for statements whose shape depends on which optional fields are present.
+ * <p>
+ * Each shape is keyed by statement name and a bitmask of the present fields and is built once.
+ * Handing the driver the same String instance for the same shape keeps the text stable, so the
+ * PostgreSQL driver's per-connection statement cache can promote it to a server-side prepared plan
+ * instead of parsing a freshly concatenated string on every call.
+ */
+@Component
+public class StatementShapeCache {
+
+    private final ConcurrentMap<String, ConcurrentMap<Integer, String>> shapes = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public String sql(String statement, int fieldMask, IntFunction<String> builder) {
+        ConcurrentMap<Integer, String> byMask = shapes.computeIfAbsent(statement, name -> new ConcurrentHashMap<>());
+
+        String sql = byMask.get(fieldMask);
+        if (sql != null) {
+            hits.increment();
+            return sql;
+        }
+
+        misses.increment();
+        return byMask.computeIfAbsent(fieldMask, builder::apply);
+    }
+
+    public StatementShapeStats stats() {
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        long total = hitCount + missCount;
+        int shapeCount = shapes.values().stream().mapToInt(ConcurrentMap::size).sum();
+
+        return new StatementShapeStats(shapeCount, hitCount, missCount, total == 0 ? 0.0 : (double) hitCount / total);
+    }
+}
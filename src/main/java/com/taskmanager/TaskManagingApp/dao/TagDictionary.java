@@ -0,0 +1,211 @@
+package com.taskmanager.TaskManagingApp.dao;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * One shared String per distinct task tag. Tags are a few hundred values repeated across millions
+ * of rows, so every read hands out the same instances instead of fresh copies, and TaskRowMapper
+ * resolves them straight from the driver's bytes for the tags column without decoding a String
+ * per element first.
+ * <p>
+ * Entries are only ever added, into an open-addressing table sized up front, so lookups take no
+ * lock. Once max-size distinct tags are held, further ones are returned as plain Strings and not
+ * kept, so free-form input cannot grow this without bound.
+ */
+@Slf4j
+@Component
+public class TagDictionary {
+
+    static final String[] NO_TAGS = new String[0];
+
+    private static final int TEXT_OID = 25;
+    private static final int VARCHAR_OID = 1043;
+    private static final byte[] NULL_ELEMENT = "NULL".getBytes(StandardCharsets.US_ASCII);
+
+    private final int maxSize;
+    private final AtomicReferenceArray<Entry> table;
+    private final int mask;
+    private final AtomicInteger size = new AtomicInteger();
+
+    public TagDictionary(@Value("${app.tags.dictionary-size:4096}") int maxSize) {
+        this.maxSize = maxSize;
+        // At most half full, so probes stay short
+        int capacity = Integer.highestOneBit(Math.max(2, maxSize * 2 - 1)) << 1;
+        this.table = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+    }
+
+    public int size() {
+        return size.get();
+    }
+
+    /**
+     * Replaces the elements of tags with their shared instances, in place. A null array becomes an
+     * empty one, the way a task without tags is returned everywhere else.
+     */
+    public String[] canonicalize(String[] tags) {
+        if (tags == null) {
+            return NO_TAGS;
+        }
+        for (int i = 0; i < tags.length; i++) {
+            if (tags[i] != null) {
+                byte[] utf8 = tags[i].getBytes(StandardCharsets.UTF_8);
+                tags[i] = resolve(utf8, 0, utf8.length);
+            }
+        }
+        return tags;
+    }
+
+    /**
+     * Decodes a PostgreSQL text[] value as the driver received it, in binary or text transfer format.
+     *
+     * @return the tags, or null when the value is not a one-dimensional text array this understands
+     */
+    String[] decode(byte[] raw, boolean binary) {
+        return binary ? decodeBinary(raw) : decodeText(raw);
+    }
+
+    // ndim, has-null flag, element type, then per dimension its length and lower bound, then each
+    // element as a length (-1 for NULL) and its bytes
+    private String[] decodeBinary(byte[] raw) {
+        int dimensions = readInt(raw, 0);
+        if (dimensions == 0) {
+            return NO_TAGS;
+        }
+        int elementType = readInt(raw, 8);
+        if (dimensions != 1 || (elementType != TEXT_OID && elementType != VARCHAR_OID)) {
+            return null;
+        }
+
+        String[] tags = new String[readInt(raw, 12)];
+        int position = 20;
+        for (int i = 0; i < tags.length; i++) {
+            int length = readInt(raw, position);
+            position += 4;
+            if (length >= 0) {
+                tags[i] = resolve(raw, position, length);
+                position += length;
+            }
+        }
+        return tags;
+    }
+
+    // {a,"b c","x\"y",NULL}: elements are quoted when they need to be (binary-prepared statements
+    // quote all of them), backslash escapes only appear inside quotes, and a bare NULL is a null.
+    // {{a,b},{c,d}} is a multi-dimensional array, left to the driver
+    private String[] decodeText(byte[] raw) {
+        if (raw.length < 2 || raw[0] != '{' || raw[1] == '{') {
+            return null;
+        }
+        if (raw[1] == '}') {
+            return NO_TAGS;
+        }
+
+        String[] tags = new String[4];
+        int count = 0;
+        int position = 1;
+        while (position < raw.length) {
+            if (count == tags.length) {
+                tags = Arrays.copyOf(tags, count * 2);
+            }
+
+            int end;
+            if (raw[position] == '"') {
+                int start = position + 1;
+                end = start;
+                boolean escaped = false;
+                while (raw[end] != '"') {
+                    if (raw[end] == '\\') {
+                        escaped = true;
+                        end++;
+                    }
+                    end++;
+                }
+                tags[count++] = escaped ? resolveEscaped(raw, start, end) : resolve(raw, start, end - start);
+                end++;
+            } else {
+                end = position;
+                while (raw[end] != ',' && raw[end] != '}') {
+                    end++;
+                }
+                tags[count++] = Arrays.equals(raw, position, end, NULL_ELEMENT, 0, NULL_ELEMENT.length)
+                        ? null
+                        : resolve(raw, position, end - position);
+            }
+
+            if (raw[end] == '}') {
+                break;
+            }
+            position = end + 1;
+        }
+        return count == tags.length ? tags : Arrays.copyOf(tags, count);
+    }
+
+    private String resolveEscaped(byte[] raw, int start, int end) {
+        byte[] unescaped = new byte[end - start];
+        int length = 0;
+        for (int i = start; i < end; i++) {
+            if (raw[i] == '\\') {
+                i++;
+            }
+            unescaped[length++] = raw[i];
+        }
+        return resolve(unescaped, 0, length);
+    }
+
+    private String resolve(byte[] bytes, int offset, int length) {
+        int hash = hash(bytes, offset, length);
+        int slot = hash & mask;
+
+        while (true) {
+            Entry entry = table.get(slot);
+            if (entry == null) {
+                String tag = new String(bytes, offset, length, StandardCharsets.UTF_8);
+                if (size.get() >= maxSize) {
+                    return tag;
+                }
+
+                Entry added = new Entry(hash, Arrays.copyOfRange(bytes, offset, offset + length), tag);
+                if (table.compareAndSet(slot, null, added)) {
+                    if (size.incrementAndGet() == maxSize) {
+                        log.warn("TagDictionary.resolve(), dictionary is full at {} tags, further tags are not shared", maxSize);
+                    }
+                    return tag;
+                }
+                // Lost the slot to another thread; it may have added this very tag
+                entry = table.get(slot);
+            }
+
+            if (entry.matches(hash, bytes, offset, length)) {
+                return entry.tag();
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private static int hash(byte[] bytes, int offset, int length) {
+        int hash = 1;
+        for (int i = offset; i < offset + length; i++) {
+            hash = 31 * hash + bytes[i];
+        }
+        return hash ^ (hash >>> 16);
+    }
+
+    private static int readInt(byte[] bytes, int offset) {
+        return (bytes[offset] & 0xff) << 24 | (bytes[offset + 1] & 0xff) << 16 | (bytes[offset + 2] & 0xff) << 8 | bytes[offset + 3] & 0xff;
+    }
+
+    private record Entry(int hash, byte[] utf8, String tag) {
+
+        boolean matches(int otherHash, byte[] bytes, int offset, int length) {
+            return hash == otherHash && Arrays.equals(utf8, 0, utf8.length, bytes, offset, offset + length);
+        }
+    }
+}
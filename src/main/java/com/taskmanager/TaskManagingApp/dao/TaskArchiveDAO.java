@@ -0,0 +1,159 @@
+package com.taskmanager.TaskManagingApp.dao;
+
+import com.taskmanager.TaskManagingApp.models.StatusType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Moves finished and soft-deleted tasks from tbl_master_tasks into the monthly partitioned
+ * tbl_archived_tasks. Reads that reach archived rows live in TaskDAO next to the live queries.
+ * <p>
+ * Every batch is one statement in its own transaction: the rows are picked with
+ * FOR UPDATE SKIP LOCKED, so rows being edited right now are left for the next run instead of
+ * waiting on them, and locks are only held for as long as a single batch takes.
+ */
+@Slf4j
+@Repository
+public class TaskArchiveDAO {
+
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+
+    private static final String MOVE_BATCH_SQL = """
+            WITH batch AS (
+                SELECT t.id
+                FROM tbl_master_tasks t
+                WHERE %s
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED
+            ),
+            unmapped AS (
+                DELETE FROM tbl_employee_task_mapping m
+                USING batch b
+                WHERE m.task_id = b.id
+            ),
+            moved AS (
+                DELETE FROM tbl_master_tasks t
+                USING batch b
+                WHERE t.id = b.id
+                RETURNING t.id, t.title, t.description, t.created_at, t.updated_at, t.assigned_employee_id,
+                          t.start_date, t.end_date, t.tags, t.status, t.priority, t.is_deleted
+            )
+            INSERT INTO tbl_archived_tasks
+            (
+                id,
+                title,
+                description,
+                created_at,
+                updated_at,
+                assigned_employee_id,
+                start_date,
+                end_date,
+                tags,
+                status,
+                priority,
+                is_deleted,
+                archived_at
+            )
+            SELECT id, title, description, created_at, updated_at, assigned_employee_id,
+                   start_date, end_date, tags, status, priority, is_deleted, CURRENT_TIMESTAMP
+            FROM moved
+            """;
+
+    private static final String MOVE_SOFT_DELETED_SQL = MOVE_BATCH_SQL.formatted("t.is_deleted = true");
+
+    private static final String MOVE_DONE_SQL = MOVE_BATCH_SQL.formatted("t.is_deleted = false AND t.status = ? AND t.updated_at < ?");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TaskLookupCache lookup;
+    private final InvalidationBus invalidationBus;
+
+    public TaskArchiveDAO(JdbcTemplate jdbcTemplate, TaskLookupCache lookup, InvalidationBus invalidationBus) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.lookup = lookup;
+        this.invalidationBus = invalidationBus;
+    }
+
+    // Creating a partition fails while the default one holds rows for its range, which happens when an
+    // archive run ever got ahead of partition creation. Those rows are then moved over with the default
+    // partition detached, all in this one transaction.
+    @Transactional
+    public void ensurePartition(YearMonth month) {
+        log.debug("In TaskArchiveDAO.ensurePartition() month={}", month);
+
+        // Identifiers and bounds come from the YearMonth, never from user input
+        String partition = "tbl_archived_tasks_" + month.format(PARTITION_SUFFIX);
+        LocalDate from = month.atDay(1);
+        LocalDate to = month.plusMonths(1).atDay(1);
+
+        Boolean exists = jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, partition);
+        if (Boolean.TRUE.equals(exists)) {
+            log.debug("Out TaskArchiveDAO.ensurePartition(), partition={} already exists", partition);
+            return;
+        }
+
+        String createSql = """
+                CREATE TABLE IF NOT EXISTS %s
+                PARTITION OF tbl_archived_tasks
+                FOR VALUES FROM ('%s') TO ('%s')
+                """.formatted(partition, from, to);
+
+        Boolean inDefault = jdbcTemplate.queryForObject("""
+                SELECT EXISTS (
+                    SELECT 1 FROM tbl_archived_tasks_default
+                    WHERE archived_at >= ? AND archived_at < ?
+                )
+                """, Boolean.class, from, to);
+
+        if (!Boolean.TRUE.equals(inDefault)) {
+            jdbcTemplate.execute(createSql);
+            log.debug("Out TaskArchiveDAO.ensurePartition(), created partition={}", partition);
+            return;
+        }
+
+        jdbcTemplate.execute("ALTER TABLE tbl_archived_tasks DETACH PARTITION tbl_archived_tasks_default");
+        jdbcTemplate.execute(createSql);
+        // Routed through the parent, so the rows land in the partition just created
+        int moved = jdbcTemplate.update("""
+                WITH moved AS (
+                    DELETE FROM tbl_archived_tasks_default
+                    WHERE archived_at >= ? AND archived_at < ?
+                    RETURNING *
+                )
+                INSERT INTO tbl_archived_tasks
+                SELECT * FROM moved
+                """, from, to);
+        jdbcTemplate.execute("ALTER TABLE tbl_archived_tasks ATTACH PARTITION tbl_archived_tasks_default DEFAULT");
+
+        log.warn("Out TaskArchiveDAO.ensurePartition(), created partition={} and moved {} rows into it from the default partition", partition, moved);
+    }
+
+    public int archiveSoftDeletedBatch(int batchSize) {
+        log.debug("In TaskArchiveDAO.archiveSoftDeletedBatch() batchSize={}", batchSize);
+
+        int moved = jdbcTemplate.update(MOVE_SOFT_DELETED_SQL, batchSize);
+
+        log.debug("Out TaskArchiveDAO.archiveSoftDeletedBatch(), moved={}", moved);
+        return moved;
+    }
+
+    public int archiveDoneBatch(LocalDateTime doneBefore, int batchSize) {
+        log.debug("In TaskArchiveDAO.archiveDoneBatch() doneBefore={}, batchSize={}", doneBefore, batchSize);
+
+        int moved = jdbcTemplate.update(MOVE_DONE_SQL, lookup.statusId(StatusType.DONE), doneBefore, batchSize);
+
+        log.debug("Out TaskArchiveDAO.archiveDoneBatch(), moved={}", moved);
+        return moved;
+    }
+
+    // Archived tasks left the live set, so caches and counters built from it have to be rebuilt
+    public void publishArchived() {
+        invalidationBus.publishAll(InvalidationEntity.TASK);
+    }
+}
@@ -1,47 +1,113 @@
 package com.taskmanager.TaskManagingApp.dao;
 
+import com.taskmanager.TaskManagingApp.dto.TaskCountKey;
+import com.taskmanager.TaskManagingApp.dto.TaskCursor;
 import com.taskmanager.TaskManagingApp.dto.TaskDTO;
+import com.taskmanager.TaskManagingApp.dto.TaskFilter;
+import com.taskmanager.TaskManagingApp.dto.TaskSearchHit;
+import com.taskmanager.TaskManagingApp.dto.TaskUpdateResult;
 import com.taskmanager.TaskManagingApp.models.PriorityType;
 import com.taskmanager.TaskManagingApp.models.StatusType;
+import com.taskmanager.TaskManagingApp.models.TagMatch;
 import com.taskmanager.TaskManagingApp.models.Task;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCountCallbackHandler;
 import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
 
-import java.sql.Array;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Types;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 @Slf4j
 @Repository
 public class TaskDAO {
 
+    private static final int BULK_BATCH_SIZE = 1000;
+    private static final int TAGS_FIELD = 1;
+
+    private static final int FILTER_STATUS = 1;
+    private static final int FILTER_PRIORITY = 1 << 1;
+    private static final int FILTER_ASSIGNEE = 1 << 2;
+    private static final int FILTER_TAGS_ANY = 1 << 3;
+    private static final int FILTER_TAGS_ALL = 1 << 4;
+    private static final int FILTER_START_FROM = 1 << 5;
+    private static final int FILTER_START_TO = 1 << 6;
+    private static final int FILTER_END_FROM = 1 << 7;
+    private static final int FILTER_END_TO = 1 << 8;
+    private static final int FILTER_AFTER = 1 << 9;
+    private static final int FILTER_LIMIT = 1 << 10;
+    private static final int FILTER_DELETED = 1 << 11;
+    private static final int FILTER_ARCHIVED = 1 << 12;
+
+    // Live and archived rows as one relation for reads that explicitly ask for cold data
+    private static final String ARCHIVE_UNION_SOURCE = """
+            FROM (
+                SELECT id, title, description, created_at, updated_at, assigned_employee_id,
+                       start_date, end_date, tags, status, priority, is_deleted
+                FROM tbl_master_tasks
+                UNION ALL
+                SELECT id, title, description, created_at, updated_at, assigned_employee_id,
+                       start_date, end_date, tags, status, priority, is_deleted
+                FROM tbl_archived_tasks
+            ) t
+            """;
+
     private final JdbcTemplate jdbcTemplate;
+    private final TaskLookupCache lookup;
+    private final StatementShapeCache shapes;
+    private final InvalidationBus invalidationBus;
+    private final TagDictionary tagDictionary;
 
-    public TaskDAO(JdbcTemplate jdbcTemplate) {
+    public TaskDAO(JdbcTemplate jdbcTemplate, TaskLookupCache lookup, StatementShapeCache shapes, InvalidationBus invalidationBus, TagDictionary tagDictionary) {
         this.jdbcTemplate = jdbcTemplate;
+        this.lookup = lookup;
+        this.shapes = shapes;
+        this.invalidationBus = invalidationBus;
+        this.tagDictionary = tagDictionary;
+    }
+
+    // A fresh mapper per query: it caches the column positions of the result set it is mapping
+    TaskRowMapper taskRowMapper() {
+        return new TaskRowMapper(lookup, tagDictionary);
     }
 
-    private final RowMapper<TaskDTO> taskRowMapper = new RowMapper<TaskDTO>() {
-        @Override
-        public TaskDTO mapRow(ResultSet rs, int rowNum) throws SQLException {
+    public Integer createTask(String title, String description, LocalDate startDate, LocalDate endDate, String[] tags, StatusType status, PriorityType priority) {
+        log.debug("In TaskDAO.createTask() title={}, status={}, priority={}", title, status, priority);
 
-            Integer assignedEmployeeId = rs.getObject("assigned_employee_id", Integer.class);
-            Array sqlTags = rs.getArray("tags");
-            String[] tags = sqlTags != null ? (String[]) sqlTags.getArray() : new String[0];
+        String sql = shapes.sql("task.create", tags != null ? TAGS_FIELD : 0, TaskDAO::buildCreateTaskSql);
 
-            return new TaskDTO(rs.getInt("id"), rs.getString("title"), rs.getString("description"), rs.getTimestamp("created_at").toLocalDateTime(), rs.getTimestamp("updated_at").toLocalDateTime(), assignedEmployeeId, rs.getDate("start_date").toLocalDate(), rs.getDate("end_date").toLocalDate(), tags, StatusType.valueOf(rs.getString("status")), PriorityType.valueOf(rs.getString("priority")));
+        List<Object> params = new ArrayList<>(7);
+        params.add(title);
+        params.add(description);
+        params.add(startDate);
+        params.add(endDate);
+        if (tags != null) {
+            params.add(tags);
         }
-    };
+        params.add(lookup.statusId(status));
+        params.add(lookup.priorityId(priority));
+        params.add(invalidationBus.notifyPrefix(InvalidationEntity.TASK));
 
-    public Integer createTask(String title, String description, LocalDate startDate, LocalDate endDate, String[] tags, StatusType status, PriorityType priority) {
-        log.info("In TaskDAO.createTask() title={}, status={}, priority={}", title, status, priority);
+        Integer id = jdbcTemplate.queryForObject(sql, (rs, rowNum) -> rs.getInt("id"), params.toArray());
 
+        log.debug("Out TaskDAO.createTask(), task created id={}", id);
+        return id;
+    }
+
+    static String buildCreateTaskSql(int fieldMask) {
         StringBuilder sql = new StringBuilder("""
+                WITH created AS (
                 INSERT INTO tbl_master_tasks
                 (
                     title,
@@ -52,9 +118,7 @@ public class TaskDAO {
                     end_date
                 """);
 
-        List<Object> params = new ArrayList<>();
-
-        if (tags != null) {
+        if ((fieldMask & TAGS_FIELD) != 0) {
             sql.append(", tags");
         }
 
@@ -72,98 +136,247 @@ public class TaskDAO {
                     ?
                 """);
 
-        params.add(title);
-        params.add(description);
-        params.add(startDate);
-        params.add(endDate);
-
-        if (tags != null) {
+        if ((fieldMask & TAGS_FIELD) != 0) {
             sql.append(", ?");
-            params.add(tags);
         }
 
         sql.append("""
                 ,
-                (SELECT id FROM tbl_static_task_status WHERE value = ?),
-                (SELECT id FROM tbl_static_task_priority WHERE value = ?)
+                ?,
+                ?
                 )
                 RETURNING id
+                ),
                 """);
 
-        params.add(status.name());
-        params.add(priority.name());
+        sql.append(InvalidationBus.notifyCte("created"));
+        sql.append("""
 
-        Integer id = jdbcTemplate.queryForObject(sql.toString(), Integer.class, params.toArray());
+                SELECT id, (SELECT count(*) FROM notified) AS notifications
+                FROM created
+                """);
 
-        log.info("Out TaskDAO.createTask(), task created id={}", id);
-        return id;
+        return sql.toString();
     }
 
-    public Integer updateTask(Integer id, String title, String description, LocalDate startDate, LocalDate endDate, String[] tags, StatusType status, PriorityType priority, Integer employeeId) {
-        log.info("In TaskDAO.updateTask() taskId={}", id);
-
-        StringBuilder sql = new StringBuilder("UPDATE tbl_master_tasks SET updated_at = CURRENT_TIMESTAMP");
+    public List<Integer> createTasks(List<Task> tasks) {
+        log.debug("In TaskDAO.createTasks() totalTasks={}", tasks.size());
 
-        List<Object> params = new ArrayList<>();
-
-        if (title != null) {
-            sql.append(", title = ?");
-            params.add(title);
-        }
+        String sql = """
+                INSERT INTO tbl_master_tasks
+                (
+                    title,
+                    description,
+                    created_at,
+                    updated_at,
+                    start_date,
+                    end_date,
+                    tags,
+                    status,
+                    priority
+                )
+                VALUES
+                (
+                    ?,
+                    ?,
+                    CURRENT_TIMESTAMP,
+                    CURRENT_TIMESTAMP,
+                    ?,
+                    ?,
+                    ?,
+                    ?,
+                    ?
+                )
+                """;
 
-        if (description != null) {
-            sql.append(", description = ?");
-            params.add(description);
+        List<Integer> ids = new ArrayList<>(tasks.size());
+
+        // Chunked JDBC batches: one network round trip per chunk instead of one per task.
+        // The driver hands generated keys back in batch order, so ids line up with the input.
+        for (int from = 0; from < tasks.size(); from += BULK_BATCH_SIZE) {
+            List<Task> chunk = tasks.subList(from, Math.min(from + BULK_BATCH_SIZE, tasks.size()));
+            KeyHolder keyHolder = new GeneratedKeyHolder();
+
+            jdbcTemplate.batchUpdate(con -> con.prepareStatement(sql, new String[]{"id"}), new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    Task task = chunk.get(i);
+                    String[] tags = task.getTags() != null ? task.getTags() : new String[0];
+
+                    ps.setString(1, task.getTitle());
+                    ps.setString(2, task.getDescription());
+                    ps.setObject(3, task.getStartDate());
+                    ps.setObject(4, task.getEndDate());
+                    ps.setArray(5, ps.getConnection().createArrayOf("text", tags));
+                    ps.setInt(6, lookup.statusId(task.getStatus()));
+                    ps.setInt(7, lookup.priorityId(task.getPriority()));
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return chunk.size();
+                }
+            }, keyHolder);
+
+            for (Map<String, Object> keys : keyHolder.getKeyList()) {
+                ids.add(((Number) keys.get("id")).intValue());
+            }
         }
 
-        if(startDate!=null) {
-            sql.append(", start_date = ?");
-            params.add(startDate);
+        // One notification for the whole bulk instead of one per row
+        if (!ids.isEmpty()) {
+            invalidationBus.publishAll(InvalidationEntity.TASK);
         }
 
-        if(endDate!=null)
-        {
-            sql.append(", end_date = ?");
-            params.add(endDate);
-        }
+        log.debug("Out TaskDAO.createTasks(), tasks created={}", ids.size());
+        return ids;
+    }
 
-        if(tags!=null)
-        {
-            sql.append(", tags = ?");
-            params.add(tags);
-        }
+    public TaskUpdateResult updateTask(Integer id, String title, String description, LocalDate startDate, LocalDate endDate, String[] tags, StatusType status, PriorityType priority, Integer employeeId) {
+        log.debug("In TaskDAO.updateTask() taskId={}", id);
 
-        if (employeeId != null) {
-            sql.append(", assigned_employee_id = ?");
-            params.add(employeeId);
+        // One round trip: lock the task, validate the employee, move the mapping, apply the
+        // non-null fields, notify other nodes and read the row back. Nothing is written unless the
+        // task exists and, when employeeId is given, that employee exists and is active; the flags
+        // say which check failed.
+        String sql = """
+                WITH input AS (
+                    SELECT ?::int AS task_id, ?::int AS employee_id
+                ),
+                target AS (
+                    SELECT t.id, t.status, t.priority, t.assigned_employee_id, t.end_date
+                    FROM tbl_master_tasks t
+                    JOIN input ON t.id = input.task_id
+                    WHERE t.is_deleted = false
+                    FOR UPDATE OF t
+                ),
+                employee AS (
+                    SELECT e.id, e.is_deactivated
+                    FROM tbl_master_employee e
+                    JOIN input ON e.id = input.employee_id
+                    WHERE e.is_deleted = false
+                ),
+                assignee AS (
+                    SELECT id FROM employee WHERE NOT is_deactivated
+                ),
+                proceed AS (
+                    SELECT target.id
+                    FROM target, input
+                    WHERE input.employee_id IS NULL OR EXISTS (SELECT 1 FROM assignee)
+                ),
+                unmapped AS (
+                    DELETE FROM tbl_employee_task_mapping m
+                    USING proceed, assignee
+                    WHERE m.task_id = proceed.id
+                ),
+                mapped AS (
+                    INSERT INTO tbl_employee_task_mapping (employee_id, task_id)
+                    SELECT assignee.id, proceed.id
+                    FROM proceed, assignee
+                ),
+                updated AS (
+                    UPDATE tbl_master_tasks t
+                    SET updated_at = CURRENT_TIMESTAMP,
+                        title = COALESCE(?, t.title),
+                        description = COALESCE(?, t.description),
+                        start_date = COALESCE(?, t.start_date),
+                        end_date = COALESCE(?, t.end_date),
+                        tags = COALESCE(?, t.tags),
+                        status = COALESCE(?, t.status),
+                        priority = COALESCE(?, t.priority),
+                        assigned_employee_id = COALESCE((SELECT id FROM assignee), t.assigned_employee_id)
+                    FROM proceed
+                    WHERE t.id = proceed.id
+                    RETURNING
+                        t.id,
+                        t.title,
+                        t.description,
+                        t.created_at,
+                        t.updated_at,
+                        t.assigned_employee_id,
+                        t.start_date,
+                        t.end_date,
+                        t.tags,
+                        t.status,
+                        t.priority
+                ),
+                """ + InvalidationBus.notifyCte("updated") + """
 
-            String assignSql = "INSERT INTO tbl_employee_task_mapping (employee_id, task_id) VALUES (?, ?)";
-            jdbcTemplate.update(assignSql, employeeId, id);
+                SELECT
+                    EXISTS (SELECT 1 FROM target) AS task_found,
+                    EXISTS (SELECT 1 FROM employee) AS employee_found,
+                    COALESCE((SELECT is_deactivated FROM employee), false) AS employee_deactivated,
+                    target.status AS old_status,
+                    target.priority AS old_priority,
+                    target.assigned_employee_id AS old_assigned_employee_id,
+                    target.end_date AS old_end_date,
+                    (SELECT count(*) FROM notified) AS notifications,
+                    updated.*
+                FROM (SELECT 1) AS one
+                LEFT JOIN target ON true
+                LEFT JOIN updated ON true
+                """;
 
-            log.info("TaskDAO.updateTask(), task assigned employeeId={}", employeeId);
-        }
+        TaskUpdateResult result = jdbcTemplate.query(sql, ps -> {
+            ps.setObject(1, id, Types.INTEGER);
+            ps.setObject(2, employeeId, Types.INTEGER);
+            ps.setObject(3, title, Types.VARCHAR);
+            ps.setObject(4, description, Types.VARCHAR);
+            ps.setObject(5, startDate, Types.DATE);
+            ps.setObject(6, endDate, Types.DATE);
+            if (tags != null) {
+                ps.setArray(7, ps.getConnection().createArrayOf("text", tags));
+            } else {
+                ps.setNull(7, Types.ARRAY);
+            }
+            ps.setObject(8, status != null ? lookup.statusId(status) : null, Types.INTEGER);
+            ps.setObject(9, priority != null ? lookup.priorityId(priority) : null, Types.INTEGER);
+            ps.setString(10, invalidationBus.notifyPrefix(InvalidationEntity.TASK));
+        }, rs -> {
+            rs.next();
+            boolean taskFound = rs.getBoolean("task_found");
+            TaskCountKey previous = taskFound ? new TaskCountKey(lookup.status(rs.getInt("old_status")), lookup.priority(rs.getInt("old_priority")), rs.getObject("old_assigned_employee_id") != null, rs.getObject("old_end_date", LocalDate.class)) : null;
+            TaskDTO task = rs.getObject("id") != null ? taskRowMapper().mapRow(rs, 0) : null;
+            return new TaskUpdateResult(taskFound, rs.getBoolean("employee_found"), rs.getBoolean("employee_deactivated"), previous, task);
+        });
+
+        log.debug("Out TaskDAO.updateTask(), updated={}", result.task() != null);
+        return result;
+    }
 
-        if (status != null) {
-            sql.append(", status = (SELECT id FROM tbl_static_task_status WHERE value = ?)");
-            params.add(status.name());
-        }
+    public TaskDTO findTaskById(Integer id) {
+        log.debug("In TaskDAO.findTaskById() id={}", id);
 
-        if (priority != null) {
-            sql.append(", priority = (SELECT id FROM tbl_static_task_priority WHERE value = ?)");
-            params.add(priority.name());
-        }
+        String sql = """
+                SELECT
+                    t.id,
+                    t.title,
+                    t.description,
+                    t.created_at,
+                    t.updated_at,
+                    t.assigned_employee_id,
+                    t.start_date,
+                    t.end_date,
+                    t.tags,
+                    t.status,
+                    t.priority
+                FROM tbl_master_tasks t
+                WHERE t.is_deleted = false AND t.id = ?
+                """;
 
-        sql.append(" WHERE id = ?");
-        params.add(id);
+        List<TaskDTO> result = jdbcTemplate.query(sql, taskRowMapper(), id);
 
-        int affected = jdbcTemplate.update(sql.toString(), params.toArray());
-        log.info("Out TaskDAO.updateTask(), rows affected={}", affected);
+        if (result.isEmpty()) {
+            log.debug("Out TaskDAO.findTaskById(), task not found id={}", id);
+            return null;
+        }
 
-        return affected;
+        log.debug("Out TaskDAO.findTaskById(), task found id={}", id);
+        return result.getFirst();
     }
 
-    public TaskDTO findTaskById(Integer id) {
-        log.info("In TaskDAO.findTaskById() id={}", id);
+    public TaskDTO findTaskIncludingArchived(Integer id) {
+        log.debug("In TaskDAO.findTaskIncludingArchived() id={}", id);
 
         String sql = """
                 SELECT
@@ -176,36 +389,87 @@ public class TaskDAO {
                     t.start_date,
                     t.end_date,
                     t.tags,
-                    s.value AS status,
-                    p.value AS priority
-                FROM tbl_master_tasks t
-                JOIN tbl_static_task_status s ON t.status = s.id
-                JOIN tbl_static_task_priority p ON t.priority = p.id
+                    t.status,
+                    t.priority
+                """ + ARCHIVE_UNION_SOURCE + """
                 WHERE t.is_deleted = false AND t.id = ?
+                LIMIT 1
                 """;
 
-        List<TaskDTO> result = jdbcTemplate.query(sql, taskRowMapper, id);
+        List<TaskDTO> result = jdbcTemplate.query(sql, taskRowMapper(), id);
 
         if (result.isEmpty()) {
-            log.info("Out TaskDAO.findTaskById(), task not found id={}", id);
+            log.debug("Out TaskDAO.findTaskIncludingArchived(), task not found id={}", id);
             return null;
         }
 
-        log.info("Out TaskDAO.findTaskById(), task found id={}", id);
+        log.debug("Out TaskDAO.findTaskIncludingArchived(), task found id={}", id);
         return result.getFirst();
     }
 
-    public void deleteTaskById(Integer id) {
-        log.info("In TaskDAO.deleteTaskById() id={}", id);
+    public List<TaskSearchHit> searchTasks(String query, int offset, int limit) {
+        log.debug("In TaskDAO.searchTasks() query={}, offset={}, limit={}", query, offset, limit);
 
-        String sql = "UPDATE tbl_master_tasks SET is_deleted=true, updated_at=CURRENT_TIMESTAMP WHERE id=?";
-        jdbcTemplate.update(sql, id);
+        // Matching and ranking use the GIN-indexed search_vector column. ts_headline re-parses the
+        // text, so it only runs on the rows of the requested page, after LIMIT.
+        String sql = """
+                WITH query AS (
+                    SELECT websearch_to_tsquery('english', ?) AS q
+                ),
+                hits AS (
+                    SELECT
+                        t.id,
+                        t.title,
+                        t.description,
+                        t.created_at,
+                        t.updated_at,
+                        t.assigned_employee_id,
+                        t.start_date,
+                        t.end_date,
+                        t.tags,
+                        t.status,
+                        t.priority,
+                        ts_rank(t.search_vector, query.q) AS rank
+                    FROM tbl_master_tasks t, query
+                    WHERE t.is_deleted = false AND t.search_vector @@ query.q
+                    ORDER BY rank DESC, t.id
+                    LIMIT ? OFFSET ?
+                )
+                SELECT
+                    hits.*,
+                    ts_headline('english', hits.title, query.q, 'StartSel=<mark>, StopSel=</mark>, HighlightAll=true') AS title_highlight,
+                    ts_headline('english', hits.description, query.q, 'StartSel=<mark>, StopSel=</mark>, MaxFragments=2, MaxWords=20, MinWords=5') AS description_highlight
+                FROM hits, query
+                ORDER BY hits.rank DESC, hits.id
+                """;
+
+        TaskRowMapper taskRowMapper = taskRowMapper();
+        List<TaskSearchHit> hits = jdbcTemplate.query(sql, (rs, rowNum) -> new TaskSearchHit(taskRowMapper.mapRow(rs, rowNum), rs.getDouble("rank"), rs.getString("title_highlight"), rs.getString("description_highlight")), query, limit, offset);
+
+        log.debug("Out TaskDAO.searchTasks(), totalHits={}", hits.size());
+        return hits;
+    }
+
+    public int deleteTaskById(Integer id) {
+        log.debug("In TaskDAO.deleteTaskById() id={}", id);
+
+        String sql = """
+                WITH deleted AS (
+                    UPDATE tbl_master_tasks SET is_deleted=true, updated_at=CURRENT_TIMESTAMP WHERE id=? AND is_deleted=false
+                    RETURNING id
+                ),
+                """ + InvalidationBus.notifyCte("deleted") + """
+
+                SELECT (SELECT count(*) FROM deleted) AS affected, (SELECT count(*) FROM notified) AS notifications
+                """;
+        int affected = jdbcTemplate.queryForObject(sql, (rs, rowNum) -> rs.getInt("affected"), id, invalidationBus.notifyPrefix(InvalidationEntity.TASK));
 
-        log.info("Out TaskDAO.deleteTaskById(), task deleted id={}", id);
+        log.debug("Out TaskDAO.deleteTaskById(), rows affected={}", affected);
+        return affected;
     }
 
     public List<TaskDTO> getAllTasks() {
-        log.info("In TaskDAO.getAllTasks()");
+        log.debug("In TaskDAO.getAllTasks()");
 
         String sql = """
                 SELECT
@@ -218,22 +482,61 @@ public class TaskDAO {
                     t.start_date,
                     t.end_date,
                     t.tags,
-                    s.value AS status,
-                    p.value AS priority
+                    t.status,
+                    t.priority
                 FROM tbl_master_tasks t
-                JOIN tbl_static_task_status s ON t.status = s.id
-                JOIN tbl_static_task_priority p ON t.priority = p.id
                 WHERE t.is_deleted = false
                 """;
 
-        List<TaskDTO> tasks = jdbcTemplate.query(sql, taskRowMapper);
-        log.info("Out TaskDAO.getAllTasks(), totalTasks={}", tasks.size());
+        List<TaskDTO> tasks = jdbcTemplate.query(sql, taskRowMapper());
+        log.debug("Out TaskDAO.getAllTasks(), totalTasks={}", tasks.size());
 
         return tasks;
     }
 
+    public int streamAllTasks(int fetchSize, Consumer<TaskDTO> consumer) {
+        log.debug("In TaskDAO.streamAllTasks() fetchSize={}", fetchSize);
+
+        String sql = """
+                SELECT
+                    t.id,
+                    t.title,
+                    t.description,
+                    t.created_at,
+                    t.updated_at,
+                    t.assigned_employee_id,
+                    t.start_date,
+                    t.end_date,
+                    t.tags,
+                    t.status,
+                    t.priority
+                FROM tbl_master_tasks t
+                WHERE t.is_deleted = false
+                ORDER BY t.id
+                """;
+
+        // The PostgreSQL driver only fetches in chunks of fetchSize (instead of buffering the whole
+        // result) for a forward-only cursor inside a transaction, so callers must run this in one.
+        TaskRowMapper taskRowMapper = taskRowMapper();
+        RowCountCallbackHandler handler = new RowCountCallbackHandler() {
+            @Override
+            protected void processRow(ResultSet rs, int rowNum) throws SQLException {
+                consumer.accept(taskRowMapper.mapRow(rs, rowNum));
+            }
+        };
+
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(fetchSize);
+            return ps;
+        }, handler);
+
+        log.debug("Out TaskDAO.streamAllTasks(), totalTasks={}", handler.getRowCount());
+        return handler.getRowCount();
+    }
+
     public List<TaskDTO> findTaskByEmployeeId(Integer employeeId) {
-        log.info("In TaskDAO.findTaskByEmployeeId() employeeId={}", employeeId);
+        log.debug("In TaskDAO.findTaskByEmployeeId() employeeId={}", employeeId);
 
         String sql = """
                 SELECT
@@ -246,24 +549,22 @@ public class TaskDAO {
                     t.start_date,
                     t.end_date,
                     t.tags,
-                    s.value AS status,
-                    p.value AS priority
+                    t.status,
+                    t.priority
                 FROM tbl_master_tasks t
                 JOIN tbl_employee_task_mapping etm ON t.id = etm.task_id
-                JOIN tbl_static_task_status s ON t.status = s.id
-                JOIN tbl_static_task_priority p ON t.priority = p.id
                 WHERE etm.employee_id = ?
                   AND t.is_deleted = false
                 """;
 
-        List<TaskDTO> tasks = jdbcTemplate.query(sql, taskRowMapper, employeeId);
-        log.info("Out TaskDAO.findTaskByEmployeeId(), totalTasks={}", tasks.size());
+        List<TaskDTO> tasks = jdbcTemplate.query(sql, taskRowMapper(), employeeId);
+        log.debug("Out TaskDAO.findTaskByEmployeeId(), totalTasks={}", tasks.size());
 
         return tasks;
     }
 
     public List<TaskDTO> findTasksByStatus(StatusType status) {
-        log.info("In TaskDAO.findTasksByStatus() status={}", status);
+        log.debug("In TaskDAO.findTasksByStatus() status={}", status);
 
         String sql = """
                 SELECT
@@ -276,22 +577,20 @@ public class TaskDAO {
                     t.start_date,
                     t.end_date,
                     t.tags,
-                    s.value AS status,
-                    p.value AS priority
+                    t.status,
+                    t.priority
                 FROM tbl_master_tasks t
-                JOIN tbl_static_task_status s ON t.status = s.id
-                JOIN tbl_static_task_priority p ON t.priority = p.id
-                WHERE s.value = ?
+                WHERE t.status = ?
                 """;
 
-        List<TaskDTO> tasks = jdbcTemplate.query(sql, taskRowMapper, status.name());
-        log.info("Out TaskDAO.findTasksByStatus(), totalTasks={}", tasks.size());
+        List<TaskDTO> tasks = jdbcTemplate.query(sql, taskRowMapper(), lookup.statusId(status));
+        log.debug("Out TaskDAO.findTasksByStatus(), totalTasks={}", tasks.size());
 
         return tasks;
     }
 
     public List<TaskDTO> findTasksByPriority(PriorityType priority) {
-        log.info("In TaskDAO.findTasksByPriority() priority={}", priority);
+        log.debug("In TaskDAO.findTasksByPriority() priority={}", priority);
 
         String sql = """
                 SELECT
@@ -304,30 +603,170 @@ public class TaskDAO {
                     t.start_date,
                     t.end_date,
                     t.tags,
-                    s.value AS status,
-                    p.value AS priority
+                    t.status,
+                    t.priority
                 FROM tbl_master_tasks t
-                JOIN tbl_static_task_status s ON t.status = s.id
-                JOIN tbl_static_task_priority p ON t.priority = p.id
-                WHERE p.value = ?
+                WHERE t.priority = ?
                 """;
 
-        List<TaskDTO> tasks = jdbcTemplate.query(sql, taskRowMapper, priority.name());
-        log.info("Out TaskDAO.findTasksByPriority(), totalTasks={}", tasks.size());
+        List<TaskDTO> tasks = jdbcTemplate.query(sql, taskRowMapper(), lookup.priorityId(priority));
+        log.debug("Out TaskDAO.findTasksByPriority(), totalTasks={}", tasks.size());
+
+        return tasks;
+    }
+
+    public List<TaskDTO> findTasks(TaskFilter filter, TaskCursor after, Integer limit) {
+        log.debug("In TaskDAO.findTasks() filter={}, after={}, limit={}", filter, after, limit);
+
+        // Each criterion toggles one fixed predicate, and set criteria bind a single array with
+        // = ANY(?) / && / @>, so the SQL text depends only on which criteria are present and never
+        // on how many values they carry.
+        int fieldMask = 0;
+        List<Object> params = new ArrayList<>();
+
+        // is_deleted is written as a literal rather than bound so the partial indexes on
+        // "WHERE is_deleted = false" still match once the driver switches to a generic plan
+        if (filter.deleted()) {
+            fieldMask |= FILTER_DELETED;
+        }
+        if (filter.includeArchived()) {
+            fieldMask |= FILTER_ARCHIVED;
+        }
+
+        if (hasValues(filter.statuses())) {
+            fieldMask |= FILTER_STATUS;
+            params.add(filter.statuses().stream().distinct().map(lookup::statusId).toArray(Integer[]::new));
+        }
+        if (hasValues(filter.priorities())) {
+            fieldMask |= FILTER_PRIORITY;
+            params.add(filter.priorities().stream().distinct().map(lookup::priorityId).toArray(Integer[]::new));
+        }
+        if (hasValues(filter.assigneeIds())) {
+            fieldMask |= FILTER_ASSIGNEE;
+            params.add(filter.assigneeIds().stream().distinct().toArray(Integer[]::new));
+        }
+        if (hasValues(filter.tags())) {
+            fieldMask |= filter.tagMatch() == TagMatch.ALL ? FILTER_TAGS_ALL : FILTER_TAGS_ANY;
+            params.add(filter.tags().stream().distinct().toArray(String[]::new));
+        }
+        if (filter.startFrom() != null) {
+            fieldMask |= FILTER_START_FROM;
+            params.add(filter.startFrom());
+        }
+        if (filter.startTo() != null) {
+            fieldMask |= FILTER_START_TO;
+            params.add(filter.startTo());
+        }
+        if (filter.endFrom() != null) {
+            fieldMask |= FILTER_END_FROM;
+            params.add(filter.endFrom());
+        }
+        if (filter.endTo() != null) {
+            fieldMask |= FILTER_END_TO;
+            params.add(filter.endTo());
+        }
+        if (after != null) {
+            fieldMask |= FILTER_AFTER;
+            params.add(after.createdAt());
+            params.add(after.id());
+        }
+        if (limit != null) {
+            fieldMask |= FILTER_LIMIT;
+            params.add(limit);
+        }
+
+        String sql = shapes.sql("task.find", fieldMask, TaskDAO::buildFindTasksSql);
+        List<TaskDTO> tasks = jdbcTemplate.query(sql, taskRowMapper(), params.toArray());
 
+        log.debug("Out TaskDAO.findTasks(), totalTasks={}", tasks.size());
         return tasks;
     }
 
+    private static boolean hasValues(List<?> values) {
+        return values != null && !values.isEmpty();
+    }
+
+    // Results are ordered by (created_at, id): with a cursor the row comparison lets the planner seek
+    // straight to the cursor position, so every page costs the same regardless of how deep it is.
+    static String buildFindTasksSql(int fieldMask) {
+        StringBuilder sql = new StringBuilder("""
+                SELECT
+                    t.id,
+                    t.title,
+                    t.description,
+                    t.created_at,
+                    t.updated_at,
+                    t.assigned_employee_id,
+                    t.start_date,
+                    t.end_date,
+                    t.tags,
+                    t.status,
+                    t.priority
+                """);
+
+        // With archived rows the predicates below are pushed down into both branches of the
+        // UNION ALL, so each side still uses its own (created_at, id) index
+        sql.append((fieldMask & FILTER_ARCHIVED) != 0 ? ARCHIVE_UNION_SOURCE : "FROM tbl_master_tasks t\n");
+        sql.append((fieldMask & FILTER_DELETED) != 0 ? "WHERE t.is_deleted = true" : "WHERE t.is_deleted = false");
+
+        if ((fieldMask & FILTER_STATUS) != 0) {
+            sql.append(" AND t.status = ANY(?)");
+        }
+        if ((fieldMask & FILTER_PRIORITY) != 0) {
+            sql.append(" AND t.priority = ANY(?)");
+        }
+        if ((fieldMask & FILTER_ASSIGNEE) != 0) {
+            sql.append(" AND t.assigned_employee_id = ANY(?)");
+        }
+        if ((fieldMask & FILTER_TAGS_ANY) != 0) {
+            sql.append(" AND t.tags && ?::text[]");
+        }
+        if ((fieldMask & FILTER_TAGS_ALL) != 0) {
+            sql.append(" AND t.tags @> ?::text[]");
+        }
+        if ((fieldMask & FILTER_START_FROM) != 0) {
+            sql.append(" AND t.start_date >= ?");
+        }
+        if ((fieldMask & FILTER_START_TO) != 0) {
+            sql.append(" AND t.start_date <= ?");
+        }
+        if ((fieldMask & FILTER_END_FROM) != 0) {
+            sql.append(" AND t.end_date >= ?");
+        }
+        if ((fieldMask & FILTER_END_TO) != 0) {
+            sql.append(" AND t.end_date <= ?");
+        }
+        if ((fieldMask & FILTER_AFTER) != 0) {
+            sql.append(" AND (t.created_at, t.id) > (?, ?)");
+        }
+
+        sql.append(" ORDER BY t.created_at, t.id");
+
+        if ((fieldMask & FILTER_LIMIT) != 0) {
+            sql.append(" LIMIT ?");
+        }
+
+        return sql.toString();
+    }
+
     public int unassignTask(Integer id) {
-        log.info("In TaskDAO.unassignTask() taskId={}", id);
+        log.debug("In TaskDAO.unassignTask() taskId={}", id);
 
         String deleteMappingSql = "DELETE FROM tbl_employee_task_mapping WHERE task_id = ?";
         jdbcTemplate.update(deleteMappingSql, id);
 
-        String updateTaskSql = "UPDATE tbl_master_tasks SET assigned_employee_id=NULL, updated_at=CURRENT_TIMESTAMP WHERE id=?";
-        int affected = jdbcTemplate.update(updateTaskSql, id);
+        String updateTaskSql = """
+                WITH unassigned AS (
+                    UPDATE tbl_master_tasks SET assigned_employee_id=NULL, updated_at=CURRENT_TIMESTAMP WHERE id=? AND assigned_employee_id IS NOT NULL
+                    RETURNING id
+                ),
+                """ + InvalidationBus.notifyCte("unassigned") + """
+
+                SELECT (SELECT count(*) FROM unassigned) AS affected, (SELECT count(*) FROM notified) AS notifications
+                """;
+        int affected = jdbcTemplate.queryForObject(updateTaskSql, (rs, rowNum) -> rs.getInt("affected"), id, invalidationBus.notifyPrefix(InvalidationEntity.TASK));
 
-        log.info("Out TaskDAO.unassignTask(), rows affected={}", affected);
+        log.debug("Out TaskDAO.unassignTask(), rows affected={}", affected);
         return affected;
     }
 }
@@ -0,0 +1,112 @@
+package com.taskmanager.TaskManagingApp.dao;
+
+import com.taskmanager.TaskManagingApp.models.PriorityType;
+import com.taskmanager.TaskManagingApp.models.StatusType;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * In-memory copy of tbl_static_task_status and tbl_static_task_priority.
+ * <p>
+ * The static tables never change at runtime, so they are read once at startup into arrays indexed
+ * by enum ordinal (enum -> id) and by id (id -> enum). Task queries then bind and read the integer
+ * columns directly instead of joining or sub-selecting the lookup tables.
+ */
+@Slf4j
+@Repository
+public class TaskLookupCache {
+
+    private static final StatusType[] STATUSES = StatusType.values();
+    private static final PriorityType[] PRIORITIES = PriorityType.values();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private int[] statusIds;
+    private int[] priorityIds;
+    private StatusType[] statusById;
+    private PriorityType[] priorityById;
+
+    public TaskLookupCache(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostConstruct
+    void load() {
+        log.debug("In TaskLookupCache.load()");
+
+        Map<String, Integer> statuses = readLookup("SELECT id, value FROM tbl_static_task_status");
+        Map<String, Integer> priorities = readLookup("SELECT id, value FROM tbl_static_task_priority");
+
+        statusIds = idsByOrdinal(STATUSES, statuses, "tbl_static_task_status");
+        priorityIds = idsByOrdinal(PRIORITIES, priorities, "tbl_static_task_priority");
+        statusById = valuesById(STATUSES, statusIds, StatusType[]::new);
+        priorityById = valuesById(PRIORITIES, priorityIds, PriorityType[]::new);
+
+        log.debug("Out TaskLookupCache.load(), statuses={}, priorities={}", statuses, priorities);
+    }
+
+    public int statusId(StatusType status) {
+        return statusIds[status.ordinal()];
+    }
+
+    public int priorityId(PriorityType priority) {
+        return priorityIds[priority.ordinal()];
+    }
+
+    public StatusType status(int id) {
+        return decode(statusById, id, "status");
+    }
+
+    public PriorityType priority(int id) {
+        return decode(priorityById, id, "priority");
+    }
+
+    private Map<String, Integer> readLookup(String sql) {
+        return jdbcTemplate.query(sql, rs -> {
+            Map<String, Integer> values = new HashMap<>();
+            while (rs.next()) {
+                values.put(rs.getString("value"), rs.getInt("id"));
+            }
+            return values;
+        });
+    }
+
+    private static <E extends Enum<E>> int[] idsByOrdinal(E[] constants, Map<String, Integer> rows, String table) {
+        int[] ids = new int[constants.length];
+        for (E constant : constants) {
+            Integer id = rows.get(constant.name());
+            if (id == null) {
+                throw new IllegalStateException("Missing value " + constant.name() + " in " + table);
+            }
+            ids[constant.ordinal()] = id;
+        }
+        return ids;
+    }
+
+    private static <E extends Enum<E>> E[] valuesById(E[] constants, int[] ids, Function<Integer, E[]> newArray) {
+        int maxId = 0;
+        for (int id : ids) {
+            maxId = Math.max(maxId, id);
+        }
+
+        E[] byId = newArray.apply(maxId + 1);
+        for (E constant : constants) {
+            byId[ids[constant.ordinal()]] = constant;
+        }
+        return byId;
+    }
+
+    private static <E> E decode(E[] byId, int id, String kind) {
+        E value = id >= 0 && id < byId.length ? byId[id] : null;
+        if (value == null) {
+            throw new IllegalStateException("Unknown task " + kind + " id " + id);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,110 @@
+package com.taskmanager.TaskManagingApp.dao;
+
+import com.taskmanager.TaskManagingApp.dto.TaskDTO;
+import org.postgresql.PGResultSetMetaData;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.Array;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Maps tbl_master_tasks rows to TaskDTO. Column positions are looked up once per result set instead
+ * of by label on every row, and timestamps and dates are read straight into java.time types rather
+ * than through java.sql.Timestamp/Date. Status and priority ids decode through TaskLookupCache, and
+ * tags resolve to TagDictionary's shared instances.
+ * <p>
+ * Holds the positions of the result set it last saw, so an instance must not be shared between
+ * threads; TaskDAO hands out a new one per query.
+ */
+final class TaskRowMapper implements RowMapper<TaskDTO> {
+
+    // PGResultSetMetaData.getFormat values, plus one for result sets from other drivers
+    private static final int TEXT_FORMAT = 0;
+    private static final int BINARY_FORMAT = 1;
+    private static final int UNKNOWN_FORMAT = -1;
+
+    private final TaskLookupCache lookup;
+    private final TagDictionary tagDictionary;
+
+    private ResultSet resolvedFor;
+    private int id;
+    private int title;
+    private int description;
+    private int createdAt;
+    private int updatedAt;
+    private int assignedEmployeeId;
+    private int startDate;
+    private int endDate;
+    private int tags;
+    private int status;
+    private int priority;
+    private int tagsFormat;
+
+    TaskRowMapper(TaskLookupCache lookup, TagDictionary tagDictionary) {
+        this.lookup = lookup;
+        this.tagDictionary = tagDictionary;
+    }
+
+    @Override
+    public TaskDTO mapRow(ResultSet rs, int rowNum) throws SQLException {
+        if (rs != resolvedFor) {
+            resolve(rs);
+        }
+
+        int assignee = rs.getInt(assignedEmployeeId);
+        Integer assignedEmployee = rs.wasNull() ? null : assignee;
+
+        String[] tagValues = readTags(rs);
+
+        return new TaskDTO(rs.getInt(id), rs.getString(title), rs.getString(description),
+                rs.getObject(createdAt, LocalDateTime.class), rs.getObject(updatedAt, LocalDateTime.class), assignedEmployee,
+                rs.getObject(startDate, LocalDate.class), rs.getObject(endDate, LocalDate.class), tagValues,
+                lookup.status(rs.getInt(status)), lookup.priority(rs.getInt(priority)));
+    }
+
+    private void resolve(ResultSet rs) throws SQLException {
+        id = rs.findColumn("id");
+        title = rs.findColumn("title");
+        description = rs.findColumn("description");
+        createdAt = rs.findColumn("created_at");
+        updatedAt = rs.findColumn("updated_at");
+        assignedEmployeeId = rs.findColumn("assigned_employee_id");
+        startDate = rs.findColumn("start_date");
+        endDate = rs.findColumn("end_date");
+        tags = rs.findColumn("tags");
+        status = rs.findColumn("status");
+        priority = rs.findColumn("priority");
+        tagsFormat = transferFormat(rs, tags);
+        resolvedFor = rs;
+    }
+
+    private String[] readTags(ResultSet rs) throws SQLException {
+        if (tagsFormat != UNKNOWN_FORMAT) {
+            // pgjdbc hands out the field as received, without copying it, so only the tags the
+            // dictionary has not seen yet are decoded
+            byte[] raw = rs.getBytes(tags);
+            if (raw == null) {
+                return TagDictionary.NO_TAGS;
+            }
+            String[] decoded = tagDictionary.decode(raw, tagsFormat == BINARY_FORMAT);
+            if (decoded != null) {
+                return decoded;
+            }
+        }
+
+        Array sqlTags = rs.getArray(tags);
+        return tagDictionary.canonicalize(sqlTags != null ? (String[]) sqlTags.getArray() : null);
+    }
+
+    private static int transferFormat(ResultSet rs, int column) throws SQLException {
+        ResultSetMetaData metaData = rs.getMetaData();
+        if (metaData == null || !metaData.isWrapperFor(PGResultSetMetaData.class)) {
+            return UNKNOWN_FORMAT;
+        }
+        return metaData.unwrap(PGResultSetMetaData.class).getFormat(column) == BINARY_FORMAT ? BINARY_FORMAT : TEXT_FORMAT;
+    }
+}
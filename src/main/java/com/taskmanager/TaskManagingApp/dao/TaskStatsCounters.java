@@ -0,0 +1,289 @@
+package com.taskmanager.TaskManagingApp.dao;
+
+import com.taskmanager.TaskManagingApp.dto.TaskCountKey;
+import com.taskmanager.TaskManagingApp.dto.TaskStats;
+import com.taskmanager.TaskManagingApp.models.PriorityType;
+import com.taskmanager.TaskManagingApp.models.StatusType;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory status x priority task counters for the dashboard.
+ * <p>
+ * Seeded from one GROUP BY at startup and then adjusted by TaskService on every create, update,
+ * delete and unassign, so reading them never touches the database. Each cell is a LongAdder, so
+ * concurrent writers do not contend on a shared counter. Overdue depends on today's date, so open
+ * (not DONE) tasks are also counted per end date and overdue is the sum of the dates before today.
+ * <p>
+ * A write holds a {@link Write} from before its statement runs until its deltas are applied, which
+ * inside a transaction is after commit, so a rolled back write never touches the counters. A reseed
+ * takes the other side of the same lock around its GROUP BY and the swap, so every write is either
+ * in the seed or applied on top of it: none is lost to the old cells or counted twice.
+ * <p>
+ * Bulk writes on this node (unassignment when an employee is deleted, archiving) mark the counters
+ * stale and the next read reseeds them. Writes on other nodes arrive as invalidations without the
+ * deltas; they are folded in by a reseed at most once per remote-reseed-interval, so a busy cluster
+ * does not turn every read into a full GROUP BY.
+ */
+@Slf4j
+@Component
+public class TaskStatsCounters implements InvalidationListener {
+
+    private static final StatusType[] STATUSES = StatusType.values();
+    private static final PriorityType[] PRIORITIES = PriorityType.values();
+    // Bounded so a reseed waiting on slow in-flight writes gives up instead of stalling the read
+    private static final long SEED_LOCK_TIMEOUT_MS = 5000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TaskLookupCache lookup;
+    private final long remoteReseedIntervalNanos;
+    private final ReentrantReadWriteLock seedLock = new ReentrantReadWriteLock();
+    private final AtomicBoolean stale = new AtomicBoolean();
+    private final AtomicBoolean remoteChanges = new AtomicBoolean();
+
+    private volatile Cells cells = new Cells();
+    private volatile long lastSeededNanos = System.nanoTime();
+
+    public TaskStatsCounters(JdbcTemplate jdbcTemplate, TaskLookupCache lookup,
+                             @Value("${app.stats.remote-reseed-interval:30s}") Duration remoteReseedInterval) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.lookup = lookup;
+        this.remoteReseedIntervalNanos = remoteReseedInterval.toNanos();
+    }
+
+    @PostConstruct
+    void seed() {
+        log.debug("In TaskStatsCounters.seed()");
+
+        String sql = """
+                SELECT
+                    t.status,
+                    t.priority,
+                    t.assigned_employee_id IS NOT NULL AS assigned,
+                    t.end_date,
+                    COUNT(*) AS total
+                FROM tbl_master_tasks t
+                WHERE t.is_deleted = false
+                GROUP BY t.status, t.priority, t.assigned_employee_id IS NOT NULL, t.end_date
+                """;
+
+        // The connection is taken before the lock, so a reseed never waits on the pool while it
+        // holds back writers that may be holding connections themselves
+        Cells seeded = jdbcTemplate.execute((ConnectionCallback<Cells>) connection -> {
+            try {
+                if (!seedLock.writeLock().tryLock(SEED_LOCK_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+                    return null;
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+
+            try (PreparedStatement statement = connection.prepareStatement(sql);
+                 ResultSet rs = statement.executeQuery()) {
+                Cells fresh = new Cells();
+                while (rs.next()) {
+                    TaskCountKey key = new TaskCountKey(lookup.status(rs.getInt("status")), lookup.priority(rs.getInt("priority")), rs.getBoolean("assigned"), rs.getObject("end_date", LocalDate.class));
+                    fresh.add(key, rs.getLong("total"));
+                }
+                cells = fresh;
+                lastSeededNanos = System.nanoTime();
+                return fresh;
+            } finally {
+                seedLock.writeLock().unlock();
+            }
+        });
+
+        if (seeded == null) {
+            // Keep serving the current counters and try again on the next read
+            stale.set(true);
+            log.warn("Out TaskStatsCounters.seed(), in-flight writes did not finish within {}ms, reseed postponed", SEED_LOCK_TIMEOUT_MS);
+            return;
+        }
+        log.debug("Out TaskStatsCounters.seed(), total={}", seeded.total());
+    }
+
+    /**
+     * Starts a task write. Open it before the write statement and close it once the write is done;
+     * the deltas recorded on it are applied on close, or after commit when a transaction is active.
+     */
+    public Write beginWrite() {
+        seedLock.readLock().lock();
+        return new Write();
+    }
+
+    public void markStale() {
+        stale.set(true);
+    }
+
+    public TaskStats snapshot() {
+        boolean reseed = stale.compareAndSet(true, false);
+        if (!reseed && System.nanoTime() - lastSeededNanos >= remoteReseedIntervalNanos) {
+            reseed = remoteChanges.compareAndSet(true, false);
+        }
+        if (reseed) {
+            try {
+                seed();
+            } catch (RuntimeException ex) {
+                stale.set(true);
+                throw ex;
+            }
+        }
+        return cells.snapshot(LocalDate.now());
+    }
+
+    @Override
+    public InvalidationEntity entity() {
+        return InvalidationEntity.TASK;
+    }
+
+    @Override
+    public void evict(Integer id) {
+        remoteChanges.set(true);
+    }
+
+    @Override
+    public void evictAll() {
+        remoteChanges.set(true);
+    }
+
+    /**
+     * A task write in progress. Holds back reseeds until its deltas are applied or dropped; not
+     * thread-safe, like the write it belongs to.
+     */
+    public final class Write implements AutoCloseable {
+
+        private final List<TaskCountKey> added = new ArrayList<>(1);
+        private final List<TaskCountKey> removed = new ArrayList<>(1);
+        private boolean closed;
+
+        private Write() {
+        }
+
+        public void onCreate(TaskCountKey task) {
+            added.add(task);
+        }
+
+        public void onDelete(TaskCountKey task) {
+            removed.add(task);
+        }
+
+        public void onUpdate(TaskCountKey before, TaskCountKey after) {
+            if (!before.equals(after)) {
+                removed.add(before);
+                added.add(after);
+            }
+        }
+
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+
+            if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+                try {
+                    apply();
+                } finally {
+                    seedLock.readLock().unlock();
+                }
+                return;
+            }
+
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply();
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    seedLock.readLock().unlock();
+                }
+            });
+        }
+
+        private void apply() {
+            Cells current = cells;
+            for (TaskCountKey task : removed) {
+                current.add(task, -1);
+            }
+            for (TaskCountKey task : added) {
+                current.add(task, 1);
+            }
+        }
+    }
+
+    private static final class Cells {
+
+        private final LongAdder[] byStatusAndPriority = new LongAdder[STATUSES.length * PRIORITIES.length];
+        private final LongAdder unassigned = new LongAdder();
+        private final ConcurrentSkipListMap<LocalDate, LongAdder> openByEndDate = new ConcurrentSkipListMap<>();
+
+        Cells() {
+            for (int i = 0; i < byStatusAndPriority.length; i++) {
+                byStatusAndPriority[i] = new LongAdder();
+            }
+        }
+
+        void add(TaskCountKey task, long delta) {
+            byStatusAndPriority[task.status().ordinal() * PRIORITIES.length + task.priority().ordinal()].add(delta);
+            if (!task.assigned()) {
+                unassigned.add(delta);
+            }
+            if (task.status() != StatusType.DONE && task.endDate() != null) {
+                openByEndDate.computeIfAbsent(task.endDate(), date -> new LongAdder()).add(delta);
+            }
+        }
+
+        long total() {
+            long total = 0;
+            for (LongAdder cell : byStatusAndPriority) {
+                total += cell.sum();
+            }
+            return total;
+        }
+
+        TaskStats snapshot(LocalDate today) {
+            Map<StatusType, Map<PriorityType, Long>> counts = new EnumMap<>(StatusType.class);
+            long total = 0;
+            for (StatusType status : STATUSES) {
+                Map<PriorityType, Long> row = new EnumMap<>(PriorityType.class);
+                for (PriorityType priority : PRIORITIES) {
+                    long count = byStatusAndPriority[status.ordinal() * PRIORITIES.length + priority.ordinal()].sum();
+                    row.put(priority, count);
+                    total += count;
+                }
+                counts.put(status, row);
+            }
+
+            long overdue = 0;
+            for (LongAdder cell : openByEndDate.headMap(today).values()) {
+                overdue += cell.sum();
+            }
+
+            return new TaskStats(counts, total, overdue, unassigned.sum());
+        }
+    }
+}
@@ -33,5 +33,9 @@ public class ApiResult<T> {
         return new ApiResult<>(404, false, null, error);
     }
 
+    public static <T> ApiResult<T> payloadTooLarge(String error) {
+        return new ApiResult<>(413, false, null, error);
+    }
+
     public static <T> ApiResult<T> internalServerError(String error) {return new ApiResult<>(500, false, null, error);}
 }
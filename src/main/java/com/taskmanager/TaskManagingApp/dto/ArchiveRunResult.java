@@ -0,0 +1,13 @@
+package com.taskmanager.TaskManagingApp.dto;
+
+/**
+ * Outcome of one archiver run: rows moved to the archive per kind and the number of batches it took.
+ */
+public record ArchiveRunResult(int softDeleted,
+                               int done,
+                               int batches) {
+
+    public int total() {
+        return softDeleted + done;
+    }
+}
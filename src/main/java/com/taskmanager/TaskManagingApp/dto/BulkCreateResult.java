@@ -0,0 +1,11 @@
+package com.taskmanager.TaskManagingApp.dto;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk insert. ids is aligned with the request: position i holds the id created
+ * for item i, or null when that item was rejected and is listed in errors.
+ */
+public record BulkCreateResult(List<Integer> ids,
+                               List<BulkItemError> errors) {
+}
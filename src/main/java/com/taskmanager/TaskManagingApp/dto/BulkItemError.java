@@ -0,0 +1,5 @@
+package com.taskmanager.TaskManagingApp.dto;
+
+public record BulkItemError(int index,
+                            String message) {
+}
@@ -0,0 +1,9 @@
+package com.taskmanager.TaskManagingApp.dto;
+
+public record EmployeeCacheStats(long size,
+                                 long hits,
+                                 long misses,
+                                 double hitRate,
+                                 long evictions,
+                                 long invalidations) {
+}
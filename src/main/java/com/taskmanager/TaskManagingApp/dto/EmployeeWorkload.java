@@ -0,0 +1,20 @@
+package com.taskmanager.TaskManagingApp.dto;
+
+import com.taskmanager.TaskManagingApp.models.PriorityType;
+import com.taskmanager.TaskManagingApp.models.StatusType;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * Assigned, non-deleted task counts for one active employee. nearestEndDate is the earliest end date
+ * among the employee's tasks that are not DONE, or null when there are none.
+ */
+public record EmployeeWorkload(Integer employeeId,
+                               String name,
+                               String email,
+                               long totalTasks,
+                               Map<StatusType, Long> byStatus,
+                               Map<PriorityType, Long> byPriority,
+                               LocalDate nearestEndDate) {
+}
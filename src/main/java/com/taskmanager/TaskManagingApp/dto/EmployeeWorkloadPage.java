@@ -0,0 +1,10 @@
+package com.taskmanager.TaskManagingApp.dto;
+
+import java.util.List;
+
+/**
+ * A page of workloads ordered by employee id; pass nextAfter as the after parameter to continue.
+ */
+public record EmployeeWorkloadPage(List<EmployeeWorkload> items,
+                                   Integer nextAfter) {
+}
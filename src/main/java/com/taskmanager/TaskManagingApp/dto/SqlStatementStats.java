@@ -0,0 +1,10 @@
+package com.taskmanager.TaskManagingApp.dto;
+
+public record SqlStatementStats(String fingerprint,
+                                long calls,
+                                int binds,
+                                long rows,
+                                double totalMillis,
+                                double meanMillis,
+                                double maxMillis) {
+}
@@ -0,0 +1,7 @@
+package com.taskmanager.TaskManagingApp.dto;
+
+public record StatementShapeStats(int shapes,
+                                  long hits,
+                                  long misses,
+                                  double hitRate) {
+}
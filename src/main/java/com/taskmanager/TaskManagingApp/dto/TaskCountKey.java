@@ -0,0 +1,19 @@
+package com.taskmanager.TaskManagingApp.dto;
+
+import com.taskmanager.TaskManagingApp.models.PriorityType;
+import com.taskmanager.TaskManagingApp.models.StatusType;
+
+import java.time.LocalDate;
+
+/**
+ * The attributes of a task that the dashboard counters bucket on.
+ */
+public record TaskCountKey(StatusType status,
+                           PriorityType priority,
+                           boolean assigned,
+                           LocalDate endDate) {
+
+    public static TaskCountKey of(TaskDTO task) {
+        return new TaskCountKey(task.status(), task.priority(), task.assignedEmployeeId() != null, task.endDate());
+    }
+}
@@ -0,0 +1,37 @@
+package com.taskmanager.TaskManagingApp.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import static com.taskmanager.TaskManagingApp.constants.ErrorMessages.INVALID_CURSOR;
+
+/**
+ * Keyset position of the last task on a page, ordered by (createdAt, id).
+ * Clients only ever see the encoded form, which is an opaque base64url string.
+ */
+public record TaskCursor(LocalDateTime createdAt, Integer id) {
+
+    public static TaskCursor after(TaskDTO task) {
+        return new TaskCursor(task.createdAt(), task.id());
+    }
+
+    public String encode() {
+        String raw = createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TaskCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            if (separator < 0) {
+                throw new IllegalArgumentException(INVALID_CURSOR);
+            }
+            return new TaskCursor(LocalDateTime.parse(raw.substring(0, separator)), Integer.valueOf(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new IllegalArgumentException(INVALID_CURSOR);
+        }
+    }
+}
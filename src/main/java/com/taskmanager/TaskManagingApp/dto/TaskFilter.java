@@ -0,0 +1,40 @@
+package com.taskmanager.TaskManagingApp.dto;
+
+import com.taskmanager.TaskManagingApp.models.PriorityType;
+import com.taskmanager.TaskManagingApp.models.StatusType;
+import com.taskmanager.TaskManagingApp.models.TagMatch;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Criteria for the task query endpoint. Every criterion is optional and they are ANDed together;
+ * list criteria match any of their values, except tags where tagMatch decides between any and all.
+ * Date bounds are inclusive. Archived tasks are only returned when includeArchived is set.
+ */
+public record TaskFilter(List<StatusType> statuses,
+                         List<PriorityType> priorities,
+                         List<Integer> assigneeIds,
+                         List<String> tags,
+                         TagMatch tagMatch,
+                         LocalDate startFrom,
+                         LocalDate startTo,
+                         LocalDate endFrom,
+                         LocalDate endTo,
+                         boolean deleted,
+                         boolean includeArchived) {
+
+    public static TaskFilter none() {
+        return new TaskFilter(null, null, null, null, TagMatch.ANY, null, null, null, null, false, false);
+    }
+
+    public boolean hasCriteria() {
+        return !isEmpty(statuses) || !isEmpty(priorities) || !isEmpty(assigneeIds) || !isEmpty(tags)
+                || startFrom != null || startTo != null || endFrom != null || endTo != null || deleted
+                || includeArchived;
+    }
+
+    private static boolean isEmpty(List<?> values) {
+        return values == null || values.isEmpty();
+    }
+}
@@ -0,0 +1,7 @@
+package com.taskmanager.TaskManagingApp.dto;
+
+import java.util.List;
+
+public record TaskPage(List<TaskDTO> items,
+                       String nextCursor) {
+}
@@ -0,0 +1,11 @@
+package com.taskmanager.TaskManagingApp.dto;
+
+/**
+ * One full-text search result. The highlight fields are the title and a description excerpt with
+ * matched terms wrapped in &lt;mark&gt;&lt;/mark&gt;.
+ */
+public record TaskSearchHit(TaskDTO task,
+                            double rank,
+                            String titleHighlight,
+                            String descriptionHighlight) {
+}
@@ -0,0 +1,9 @@
+package com.taskmanager.TaskManagingApp.dto;
+
+import java.util.List;
+
+public record TaskSearchPage(List<TaskSearchHit> items,
+                             int page,
+                             int limit,
+                             boolean hasMore) {
+}
@@ -0,0 +1,15 @@
+package com.taskmanager.TaskManagingApp.dto;
+
+import com.taskmanager.TaskManagingApp.models.PriorityType;
+import com.taskmanager.TaskManagingApp.models.StatusType;
+
+import java.util.Map;
+
+/**
+ * Live (non-deleted) task counts. Overdue means past its end date and not DONE.
+ */
+public record TaskStats(Map<StatusType, Map<PriorityType, Long>> counts,
+                        long total,
+                        long overdue,
+                        long unassigned) {
+}
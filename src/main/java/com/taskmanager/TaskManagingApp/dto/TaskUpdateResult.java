@@ -0,0 +1,13 @@
+package com.taskmanager.TaskManagingApp.dto;
+
+/**
+ * Result of the single-statement task update. previous holds the counted attributes of the row
+ * before the update (null when the task was not found); task is the row as written, or null when
+ * nothing was updated because the task or the requested employee failed validation.
+ */
+public record TaskUpdateResult(boolean taskFound,
+                               boolean employeeFound,
+                               boolean employeeDeactivated,
+                               TaskCountKey previous,
+                               TaskDTO task) {
+}
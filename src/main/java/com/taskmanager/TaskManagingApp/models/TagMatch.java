@@ -0,0 +1,6 @@
+package com.taskmanager.TaskManagingApp.models;
+
+public enum TagMatch {
+    ANY,
+    ALL
+}
@@ -0,0 +1,84 @@
+package com.taskmanager.TaskManagingApp.service;
+
+import com.taskmanager.TaskManagingApp.config.SqlTraceRecorder;
+import com.taskmanager.TaskManagingApp.dao.EmployeeCache;
+import com.taskmanager.TaskManagingApp.dao.StatementShapeCache;
+import com.taskmanager.TaskManagingApp.dto.ArchiveRunResult;
+import com.taskmanager.TaskManagingApp.dto.EmployeeCacheStats;
+import com.taskmanager.TaskManagingApp.dto.SqlStatementStats;
+import com.taskmanager.TaskManagingApp.dto.StatementShapeStats;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+import static com.taskmanager.TaskManagingApp.constants.ErrorMessages.INVALID_PAGE_LIMIT;
+
+@Slf4j
+@Service
+public class AdminService {
+
+    private static final int DEFAULT_SQL_TRACE_LIMIT = 20;
+    private static final int MAX_SQL_TRACE_LIMIT = 200;
+
+    private final StatementShapeCache statementShapeCache;
+    private final EmployeeCache employeeCache;
+    private final TaskArchiveService taskArchiveService;
+    private final SqlTraceRecorder sqlTraceRecorder;
+
+    public AdminService(StatementShapeCache statementShapeCache, EmployeeCache employeeCache, TaskArchiveService taskArchiveService, SqlTraceRecorder sqlTraceRecorder) {
+        this.statementShapeCache = statementShapeCache;
+        this.employeeCache = employeeCache;
+        this.taskArchiveService = taskArchiveService;
+        this.sqlTraceRecorder = sqlTraceRecorder;
+    }
+
+    public StatementShapeStats getStatementShapeStats() {
+        log.debug("In AdminService.getStatementShapeStats()");
+
+        StatementShapeStats stats = statementShapeCache.stats();
+
+        log.debug("Out AdminService.getStatementShapeStats(), shapes={}, hitRate={}", stats.shapes(), stats.hitRate());
+        return stats;
+    }
+
+    public EmployeeCacheStats getEmployeeCacheStats() {
+        log.debug("In AdminService.getEmployeeCacheStats()");
+
+        EmployeeCacheStats stats = employeeCache.stats();
+
+        log.debug("Out AdminService.getEmployeeCacheStats(), size={}, hitRate={}", stats.size(), stats.hitRate());
+        return stats;
+    }
+
+    public ArchiveRunResult runArchive() {
+        log.debug("In AdminService.runArchive()");
+
+        ArchiveRunResult result = taskArchiveService.archive();
+
+        log.debug("Out AdminService.runArchive(), archived={}", result.total());
+        return result;
+    }
+
+    public List<SqlStatementStats> getTopStatements(Integer limit) {
+        log.debug("In AdminService.getTopStatements() limit={}", limit);
+
+        if (limit != null && (limit < 1 || limit > MAX_SQL_TRACE_LIMIT)) {
+            log.warn("Out AdminService.getTopStatements(), invalid limit={}", limit);
+            throw new IllegalArgumentException(String.format(INVALID_PAGE_LIMIT, MAX_SQL_TRACE_LIMIT));
+        }
+
+        List<SqlStatementStats> statements = sqlTraceRecorder.topByTotalTime(limit != null ? limit : DEFAULT_SQL_TRACE_LIMIT);
+
+        log.debug("Out AdminService.getTopStatements(), returned={}, fingerprints={}", statements.size(), sqlTraceRecorder.fingerprintCount());
+        return statements;
+    }
+
+    public void resetSqlTrace() {
+        log.debug("In AdminService.resetSqlTrace()");
+
+        sqlTraceRecorder.reset();
+
+        log.debug("Out AdminService.resetSqlTrace()");
+    }
+}
@@ -21,13 +21,13 @@ public class AssignmentService {
     }
 
     public EmployeeDTO getAssignedUser(Integer taskId) {
-        log.info("In AssignmentService.getAssignedUser(), taskId={}", taskId);
+        log.debug("In AssignmentService.getAssignedUser(), taskId={}", taskId);
 
         TaskDTO task = taskService.getTaskById(taskId);
         Integer assigned_employee_id=task.assignedEmployeeId();
         if(assigned_employee_id!=null)
         {
-            log.info("Out AssignmentService.getAssignedUser(), found employee");
+            log.debug("Out AssignmentService.getAssignedUser(), found employee");
             return employeeService.getEmployeeById(assigned_employee_id);
         }
         else
@@ -39,12 +39,12 @@ public class AssignmentService {
     }
 
     public List<TaskDTO> getAllTaskAssignedToEmployee(Integer employeeId) {
-        log.info("In AssignmentService.getAllTaskAssignedToEmployee(), employeeId={}", employeeId);
+        log.debug("In AssignmentService.getAllTaskAssignedToEmployee(), employeeId={}", employeeId);
 
         EmployeeDTO employee = employeeService.getEmployeeById(employeeId);
         List<TaskDTO> tasks = taskService.getAllTaskAssignedToEmployee(employee.id());
 
-        log.info("Out AssignmentService.getAllTaskAssignedToEmployee(), employeeId={}, totalTasks={}", employeeId, tasks.size());
+        log.debug("Out AssignmentService.getAllTaskAssignedToEmployee(), employeeId={}, totalTasks={}", employeeId, tasks.size());
 
         return tasks;
     }
@@ -3,9 +3,12 @@ package com.taskmanager.TaskManagingApp.service;
 import ch.qos.logback.core.util.StringUtil;
 import com.taskmanager.TaskManagingApp.dao.EmployeeDAO;
 import com.taskmanager.TaskManagingApp.dto.EmployeeDTO;
+import com.taskmanager.TaskManagingApp.dto.EmployeeWorkload;
+import com.taskmanager.TaskManagingApp.dto.EmployeeWorkloadPage;
 import com.taskmanager.TaskManagingApp.models.Employee;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 
 import java.util.HashMap;
@@ -18,6 +21,8 @@ import static com.taskmanager.TaskManagingApp.constants.ErrorMessages.*;
 @Slf4j
 public class EmployeeService {
 
+    private static final int MAX_WORKLOAD_PAGE_SIZE = 500;
+
     private final EmployeeDAO employeeDAO;
 
     public EmployeeService(EmployeeDAO employeeDAO) {
@@ -25,7 +30,7 @@ public class EmployeeService {
     }
 
     public Integer createEmployee(String name, String email) {
-        log.info("In EmployeeService.createEmployee() name={}, email={}", name, email);
+        log.debug("In EmployeeService.createEmployee() name={}, email={}", name, email);
 
         if (StringUtil.isNullOrEmpty(name)) {
             log.warn("Out EmployeeService.createEmployee(), name is null/empty");
@@ -41,12 +46,12 @@ public class EmployeeService {
         }
 
         Integer id = employeeDAO.createEmployee(name, email);
-        log.info("Out EmployeeService.createEmployee(), employee created with id={}", id);
+        log.debug("Out EmployeeService.createEmployee(), employee created with id={}", id);
         return id;
     }
 
     public EmployeeDTO getEmployeeById(Integer id) {
-        log.info("In EmployeeService.getEmployeeById() id={}", id);
+        log.debug("In EmployeeService.getEmployeeById() id={}", id);
 
         EmployeeDTO employee = employeeDAO.findEmployeeById(id);
         if (employee == null) {
@@ -54,12 +59,12 @@ public class EmployeeService {
             throw new IllegalStateException(String.format(EMPLOYEE_NOT_FOUND, id));
         }
 
-        log.info("Out EmployeeService.getEmployeeById(), employee found id={}", id);
+        log.debug("Out EmployeeService.getEmployeeById(), employee found id={}", id);
         return employee;
     }
 
     public EmployeeDTO updateEmployeeInfo(Integer id, String name, String email) {
-        log.info("In EmployeeService.updateEmployeeInfo() id={}, name={}, email={}", id, name, email);
+        log.debug("In EmployeeService.updateEmployeeInfo() id={}, name={}, email={}", id, name, email);
 
         if (StringUtil.isNullOrEmpty(name) && StringUtil.isNullOrEmpty(email)) {
             log.warn("Out EmployeeService.updateEmployeeInfo(), all update fields are null");
@@ -80,12 +85,12 @@ public class EmployeeService {
         int affected = employeeDAO.updateInfo(id, name, email);
         log.info("EmployeeService.updateEmployeeInfo(), rows affected={}", affected);
 
-        log.info("Out EmployeeService.updateEmployeeInfo(), employee updated id={}", id);
+        log.debug("Out EmployeeService.updateEmployeeInfo(), employee updated id={}", id);
         return getEmployeeById(id);
     }
 
     public EmployeeDTO deactivateEmployee(Integer id) {
-        log.info("In EmployeeService.deactivateEmployee() id={}", id);
+        log.debug("In EmployeeService.deactivateEmployee() id={}", id);
 
         EmployeeDTO employee = employeeDAO.findEmployeeById(id);
         if (employee == null) {
@@ -99,13 +104,13 @@ public class EmployeeService {
         }
 
         employeeDAO.deactivateEmployee(id);
-        log.info("Out EmployeeService.deactivateEmployee(), employee deactivated id={}", id);
+        log.debug("Out EmployeeService.deactivateEmployee(), employee deactivated id={}", id);
 
         return employeeDAO.findEmployeeById(id);
     }
 
     public EmployeeDTO activateEmployee(Integer id) {
-        log.info("In EmployeeService.activateEmployee() id={}", id);
+        log.debug("In EmployeeService.activateEmployee() id={}", id);
 
         EmployeeDTO employee = employeeDAO.findEmployeeById(id);
         if (employee == null) {
@@ -119,22 +124,23 @@ public class EmployeeService {
         }
 
         employeeDAO.activateEmployee(id);
-        log.info("Out EmployeeService.activateEmployee(), employee activated id={}", id);
+        log.debug("Out EmployeeService.activateEmployee(), employee activated id={}", id);
 
         return employeeDAO.findEmployeeById(id);
     }
 
+    @Transactional(readOnly = true)
     public Map<Integer, EmployeeDTO> getEmployee() {
-        log.info("In EmployeeService.getEmployee()");
+        log.debug("In EmployeeService.getEmployee()");
 
         Map<Integer, EmployeeDTO> employees = employeeDAO.findAllEmployee();
-        log.info("Out EmployeeService.getEmployee(), totalEmployees={}", employees.size());
+        log.debug("Out EmployeeService.getEmployee(), totalEmployees={}", employees.size());
 
         return employees;
     }
 
     public void deleteEmployee(Integer id) {
-        log.info("In EmployeeService.deleteEmployee() id={}", id);
+        log.debug("In EmployeeService.deleteEmployee() id={}", id);
 
         EmployeeDTO existingEmployee = employeeDAO.findEmployeeById(id);
         if (existingEmployee == null) {
@@ -143,14 +149,37 @@ public class EmployeeService {
         }
 
         employeeDAO.deleteEmployee(id);
-        log.info("Out EmployeeService.deleteEmployee(), employee deleted id={}", id);
+        log.debug("Out EmployeeService.deleteEmployee(), employee deleted id={}", id);
+    }
+
+    @Transactional(readOnly = true)
+    public EmployeeWorkloadPage getEmployeeWorkload(Integer after, Integer limit) {
+        log.debug("In EmployeeService.getEmployeeWorkload() after={}, limit={}", after, limit);
+
+        if (limit != null && (limit < 1 || limit > MAX_WORKLOAD_PAGE_SIZE)) {
+            log.warn("Out EmployeeService.getEmployeeWorkload(), invalid limit={}", limit);
+            throw new IllegalArgumentException(String.format(INVALID_PAGE_LIMIT, MAX_WORKLOAD_PAGE_SIZE));
+        }
+
+        // One extra row tells us whether another page exists
+        List<EmployeeWorkload> workloads = employeeDAO.findEmployeeWorkloads(after, limit != null ? limit + 1 : null);
+
+        Integer nextAfter = null;
+        if (limit != null && workloads.size() > limit) {
+            workloads = workloads.subList(0, limit);
+            nextAfter = workloads.getLast().employeeId();
+        }
+
+        log.debug("Out EmployeeService.getEmployeeWorkload(), totalEmployees={}, nextAfter={}", workloads.size(), nextAfter);
+        return new EmployeeWorkloadPage(workloads, nextAfter);
     }
 
+    @Transactional(readOnly = true)
     public Map<Integer, EmployeeDTO> getEmployeesByIds(List<Integer> ids) {
-        log.info("In EmployeeService.getEmployeesByIds() ids={}", ids);
+        log.debug("In EmployeeService.getEmployeesByIds() ids={}", ids);
 
         Map<Integer, EmployeeDTO> employees = employeeDAO.findEmployeesByIds(ids);
-        log.info("Out EmployeeService.getEmployeesByIds(), totalEmployeesFound={}", employees.size());
+        log.debug("Out EmployeeService.getEmployeesByIds(), totalEmployeesFound={}", employees.size());
 
         return employees;
     }
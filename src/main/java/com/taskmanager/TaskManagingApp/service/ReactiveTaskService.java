@@ -0,0 +1,69 @@
+package com.taskmanager.TaskManagingApp.service;
+
+import com.taskmanager.TaskManagingApp.dao.ReactiveTaskDAO;
+import com.taskmanager.TaskManagingApp.dto.TaskDTO;
+import com.taskmanager.TaskManagingApp.models.PriorityType;
+import com.taskmanager.TaskManagingApp.models.StatusType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import static com.taskmanager.TaskManagingApp.constants.ErrorMessages.*;
+
+/**
+ * Arguments are validated before a publisher is returned, so bad input fails the request up front
+ * instead of surfacing as an error halfway through a stream.
+ */
+@Slf4j
+@Profile("reactive")
+@Service
+public class ReactiveTaskService {
+
+    private final ReactiveTaskDAO reactiveTaskDAO;
+
+    public ReactiveTaskService(ReactiveTaskDAO reactiveTaskDAO) {
+        this.reactiveTaskDAO = reactiveTaskDAO;
+    }
+
+    public Flux<TaskDTO> streamTasks(StatusType status, PriorityType priority) {
+        log.debug("In ReactiveTaskService.streamTasks() status={}, priority={}", status, priority);
+
+        if (status != null && priority != null) {
+            log.warn("Out ReactiveTaskService.streamTasks(), both status and priority passed");
+            throw new IllegalArgumentException(STATUS_AND_PRIORITY_EXCLUSIVE);
+        }
+
+        if (status != null) {
+            return reactiveTaskDAO.findTasksByStatus(status);
+        }
+        if (priority != null) {
+            return reactiveTaskDAO.findTasksByPriority(priority);
+        }
+        return reactiveTaskDAO.getAllTasks();
+    }
+
+    public Mono<TaskDTO> getTaskById(Integer id) {
+        log.debug("In ReactiveTaskService.getTaskById() id={}", id);
+
+        if (id == null || id < 0) {
+            log.warn("Out ReactiveTaskService.getTaskById(), invalid id={}", id);
+            throw new IllegalArgumentException(NULL_VALUE_PASSED);
+        }
+
+        return reactiveTaskDAO.findTaskById(id)
+                .switchIfEmpty(Mono.error(() -> new IllegalStateException(String.format(TASK_NOT_FOUND, id))));
+    }
+
+    public Flux<TaskDTO> streamTasksAssignedToEmployee(Integer employeeId) {
+        log.debug("In ReactiveTaskService.streamTasksAssignedToEmployee() employeeId={}", employeeId);
+
+        if (employeeId == null || employeeId < 0) {
+            log.warn("Out ReactiveTaskService.streamTasksAssignedToEmployee(), invalid employeeId={}", employeeId);
+            throw new IllegalArgumentException(NULL_VALUE_PASSED);
+        }
+
+        return reactiveTaskDAO.findTaskByEmployeeId(employeeId);
+    }
+}
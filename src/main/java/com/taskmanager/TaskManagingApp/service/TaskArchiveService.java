@@ -0,0 +1,125 @@
+package com.taskmanager.TaskManagingApp.service;
+
+import com.taskmanager.TaskManagingApp.dao.TaskArchiveDAO;
+import com.taskmanager.TaskManagingApp.dao.TaskStatsCounters;
+import com.taskmanager.TaskManagingApp.dto.ArchiveRunResult;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.function.IntSupplier;
+
+/**
+ * Periodically drains soft-deleted tasks and DONE tasks untouched for app.archive.done-after-days
+ * into the archive table, so the live table only holds the working set. The schedule is off unless
+ * app.archive.enabled is set; a run can still be started by hand through AdminService.
+ * <p>
+ * Work is throttled: each batch moves at most app.archive.batch-size rows, the run sleeps
+ * app.archive.batch-pause between batches and stops after app.archive.max-batches, leaving the rest
+ * for the next run.
+ */
+@Slf4j
+@Service
+public class TaskArchiveService {
+
+    private final TaskArchiveDAO taskArchiveDAO;
+    private final TaskStatsCounters taskStats;
+    private final boolean enabled;
+    private final int doneAfterDays;
+    private final int batchSize;
+    private final int maxBatches;
+    private final Duration batchPause;
+
+    public TaskArchiveService(TaskArchiveDAO taskArchiveDAO,
+                              TaskStatsCounters taskStats,
+                              @Value("${app.archive.enabled:false}") boolean enabled,
+                              @Value("${app.archive.done-after-days:90}") int doneAfterDays,
+                              @Value("${app.archive.batch-size:500}") int batchSize,
+                              @Value("${app.archive.max-batches:200}") int maxBatches,
+                              @Value("${app.archive.batch-pause:200ms}") Duration batchPause) {
+        this.taskArchiveDAO = taskArchiveDAO;
+        this.taskStats = taskStats;
+        this.enabled = enabled;
+        this.doneAfterDays = doneAfterDays;
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+        this.batchPause = batchPause;
+    }
+
+    @Scheduled(initialDelayString = "${app.archive.initial-delay:5m}", fixedDelayString = "${app.archive.interval:1h}")
+    public void scheduledArchive() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            archive();
+        } catch (Exception ex) {
+            log.error("TaskArchiveService.scheduledArchive(), run failed: {}", ex.getMessage());
+        }
+    }
+
+    // synchronized so a manual run and the scheduled one never interleave their batches on this node;
+    // across nodes SKIP LOCKED keeps concurrent runs from moving the same rows
+    public synchronized ArchiveRunResult archive() {
+        log.debug("In TaskArchiveService.archive()");
+
+        // Next month as well, so rows archived around midnight of the 1st never land in the default partition
+        YearMonth current = YearMonth.now();
+        taskArchiveDAO.ensurePartition(current);
+        taskArchiveDAO.ensurePartition(current.plusMonths(1));
+
+        int[] batches = {0};
+        int softDeleted = drain(() -> taskArchiveDAO.archiveSoftDeletedBatch(batchSize), batches);
+
+        LocalDateTime doneBefore = LocalDateTime.now().minusDays(doneAfterDays);
+        int done = drain(() -> taskArchiveDAO.archiveDoneBatch(doneBefore, batchSize), batches);
+
+        ArchiveRunResult result = new ArchiveRunResult(softDeleted, done, batches[0]);
+
+        if (result.done() > 0) {
+            // Only DONE rows were counted; soft-deleted ones never were
+            taskStats.markStale();
+        }
+        if (result.total() > 0) {
+            taskArchiveDAO.publishArchived();
+        }
+
+        log.debug("Out TaskArchiveService.archive(), softDeleted={}, done={}, batches={}", softDeleted, done, batches[0]);
+        return result;
+    }
+
+    private int drain(IntSupplier batch, int[] batches) {
+        int moved = 0;
+
+        while (batches[0] < maxBatches) {
+            int count = batch.getAsInt();
+            batches[0]++;
+            moved += count;
+
+            if (count < batchSize) {
+                break;
+            }
+            pause();
+        }
+
+        return moved;
+    }
+
+    private void pause() {
+        if (batchPause.isZero() || batchPause.isNegative()) {
+            return;
+        }
+
+        try {
+            Thread.sleep(batchPause);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Archive run interrupted", ex);
+        }
+    }
+}
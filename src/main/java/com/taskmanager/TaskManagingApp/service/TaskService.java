@@ -1,17 +1,31 @@
 package com.taskmanager.TaskManagingApp.service;
 
-import com.taskmanager.TaskManagingApp.dto.EmployeeDTO;
+import com.taskmanager.TaskManagingApp.dto.BulkCreateResult;
+import com.taskmanager.TaskManagingApp.dto.BulkItemError;
+import com.taskmanager.TaskManagingApp.dto.TaskCountKey;
+import com.taskmanager.TaskManagingApp.dto.TaskCursor;
 import com.taskmanager.TaskManagingApp.dto.TaskDTO;
+import com.taskmanager.TaskManagingApp.dto.TaskFilter;
+import com.taskmanager.TaskManagingApp.dto.TaskPage;
+import com.taskmanager.TaskManagingApp.dto.TaskSearchHit;
+import com.taskmanager.TaskManagingApp.dto.TaskSearchPage;
+import com.taskmanager.TaskManagingApp.dto.TaskStats;
+import com.taskmanager.TaskManagingApp.dto.TaskUpdateResult;
 import com.taskmanager.TaskManagingApp.models.PriorityType;
 import com.taskmanager.TaskManagingApp.models.StatusType;
 import com.taskmanager.TaskManagingApp.dao.TaskDAO;
+import com.taskmanager.TaskManagingApp.dao.TaskStatsCounters;
 import com.taskmanager.TaskManagingApp.models.Employee;
 import com.taskmanager.TaskManagingApp.models.Task;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.function.Consumer;
 
 import static com.taskmanager.TaskManagingApp.constants.ErrorMessages.*;
 
@@ -19,62 +33,113 @@ import static com.taskmanager.TaskManagingApp.constants.ErrorMessages.*;
 @Service
 public class TaskService {
 
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final int EXPORT_FETCH_SIZE = 500;
+    private static final int MAX_SEARCH_PAGE = 100;
+
     private final TaskDAO taskDAO;
-    private final EmployeeService employeeService;
+    private final TaskStatsCounters taskStats;
 
-    public TaskService(TaskDAO taskDAO, EmployeeService employeeService) {
+    public TaskService(TaskDAO taskDAO, TaskStatsCounters taskStats) {
         this.taskDAO = taskDAO;
-        this.employeeService = employeeService;
+        this.taskStats = taskStats;
     }
 
     public Integer createTask(String title, String description, LocalDate startDate, LocalDate endDate, String[] tags, StatusType status, PriorityType priority) {
-        log.info("In TaskService.createTask() title={}, status={}, priority={}", title, status, priority);
+        log.debug("In TaskService.createTask() title={}, status={}, priority={}", title, status, priority);
+
+        try {
+            validateNewTask(title, description, startDate, endDate, status, priority);
+        } catch (IllegalArgumentException ex) {
+            log.warn("Out TaskService.createTask(), {}", ex.getMessage());
+            throw ex;
+        }
+
+        Integer id;
+        try (TaskStatsCounters.Write stats = taskStats.beginWrite()) {
+            id = taskDAO.createTask(title, description, startDate, endDate, tags, status, priority);
+            stats.onCreate(new TaskCountKey(status, priority, false, endDate));
+        }
+
+        log.debug("Out TaskService.createTask(), task created id={}", id);
+        return id;
+    }
+
+    @Transactional
+    public BulkCreateResult createTasks(List<Task> tasks) {
+        log.debug("In TaskService.createTasks() totalTasks={}", tasks == null ? 0 : tasks.size());
+
+        if (tasks == null || tasks.isEmpty()) {
+            log.warn("Out TaskService.createTasks(), no tasks provided");
+            throw new IllegalArgumentException(NO_TASKS_PROVIDED);
+        }
+
+        List<Task> valid = new ArrayList<>(tasks.size());
+        List<Integer> validIndexes = new ArrayList<>(tasks.size());
+        List<BulkItemError> errors = new ArrayList<>();
+
+        for (int i = 0; i < tasks.size(); i++) {
+            Task task = tasks.get(i);
+            try {
+                if (task == null) {
+                    throw new IllegalArgumentException(TASK_CANT_BE_NULL);
+                }
+                validateNewTask(task.getTitle(), task.getDescription(), task.getStartDate(), task.getEndDate(), task.getStatus(), task.getPriority());
+                valid.add(task);
+                validIndexes.add(i);
+            } catch (IllegalArgumentException ex) {
+                errors.add(new BulkItemError(i, ex.getMessage()));
+            }
+        }
+
+        Integer[] ids = new Integer[tasks.size()];
+        if (!valid.isEmpty()) {
+            // Inside this transaction, so the counters only move if the batch commits
+            try (TaskStatsCounters.Write stats = taskStats.beginWrite()) {
+                List<Integer> created = taskDAO.createTasks(valid);
+                for (int i = 0; i < created.size(); i++) {
+                    ids[validIndexes.get(i)] = created.get(i);
+                }
+                for (Task task : valid) {
+                    stats.onCreate(new TaskCountKey(task.getStatus(), task.getPriority(), false, task.getEndDate()));
+                }
+            }
+        }
+
+        log.debug("Out TaskService.createTasks(), tasks created={}, rejected={}", valid.size(), errors.size());
+        return new BulkCreateResult(Arrays.asList(ids), errors);
+    }
 
+    private void validateNewTask(String title, String description, LocalDate startDate, LocalDate endDate, StatusType status, PriorityType priority) {
         if (title == null || title.isBlank()) {
-            log.warn("Out TaskService.createTask(), title is null/blank");
             throw new IllegalArgumentException(TITLE_CANT_BE_NULL);
         }
         if (description == null || description.isBlank()) {
-            log.warn("Out TaskService.createTask(), description is null/blank");
             throw new IllegalArgumentException(DESCRIPTION_CANT_BE_NULL);
         }
         if (startDate == null) {
-            log.warn("Out TaskService.createTask(), startDate is null");
             throw new IllegalArgumentException(INVALID_START_DATE);
         }
         if (endDate == null || endDate.isBefore(startDate) || endDate.isBefore(LocalDate.now())) {
-            log.warn("Out TaskService.createTask(), invalid endDate={}", endDate);
             throw new IllegalArgumentException(INVALID_END_DATE);
         }
         if (status == null) {
-            log.warn("Out TaskService.createTask(), status is null");
             throw new IllegalArgumentException(INVALID_STATUS);
         }
         if (priority == null) {
-            log.warn("Out TaskService.createTask(), priority is null");
             throw new IllegalArgumentException(INVALID_PRIORITY);
         }
-
-        Integer id = taskDAO.createTask(title, description, startDate, endDate, tags, status, priority);
-
-        log.info("Out TaskService.createTask(), task created id={}", id);
-        return id;
     }
 
     public TaskDTO updateTask(Integer id, String title, String description, LocalDate startDate, LocalDate endDate, String[] tags, StatusType status, PriorityType priority, Integer employeeId) {
-        log.info("In TaskService.updateTask() taskId={}", id);
+        log.debug("In TaskService.updateTask() taskId={}", id);
 
         if (title == null && description == null && startDate == null && endDate == null && tags == null && status == null && priority == null && employeeId == null) {
             log.warn("Out TaskService.updateTask(), all update fields are null");
             throw new IllegalArgumentException(ALL_INFO_NULL);
         }
 
-        TaskDTO existingTask = taskDAO.findTaskById(id);
-        if (existingTask == null) {
-            log.warn("Out TaskService.updateTask(), task not found id={}", id);
-            throw new IllegalStateException(String.format(TASK_NOT_FOUND,id));
-        }
-
         if (startDate != null && endDate != null && endDate.isBefore(startDate)) {
             log.warn("Out TaskService.updateTask(), endDate before startDate");
             throw new IllegalArgumentException(INVALID_END_DATE);
@@ -85,51 +150,163 @@ public class TaskService {
             throw new IllegalArgumentException(INVALID_END_DATE);
         }
 
-        if (employeeId != null) {
-            log.info("TaskService.updateTask(), validating employeeId={}", employeeId);
-            EmployeeDTO emp = employeeService.getEmployeeById(employeeId);
+        TaskUpdateResult result;
+        try (TaskStatsCounters.Write stats = taskStats.beginWrite()) {
+            // Existence checks, reassignment and the update itself all happen in one statement
+            result = taskDAO.updateTask(id, title, description, startDate, endDate, tags, status, priority, employeeId);
+
+            if (!result.taskFound()) {
+                log.warn("Out TaskService.updateTask(), task not found id={}", id);
+                throw new IllegalStateException(String.format(TASK_NOT_FOUND,id));
+            }
 
-            if (emp.isDeactivated()) {
+            if (employeeId != null && !result.employeeFound()) {
+                log.warn("Out TaskService.updateTask(), employee not found id={}", employeeId);
+                throw new IllegalStateException(String.format(EMPLOYEE_NOT_FOUND,employeeId));
+            }
+
+            if (employeeId != null && result.employeeDeactivated()) {
                 log.warn("Out TaskService.updateTask(), employee deactivated id={}", employeeId);
                 throw new IllegalStateException(String.format(EMPLOYEE_ALREADY_DEACTIVATED,employeeId));
             }
 
-            taskDAO.unassignTask(id);
-            log.info("TaskService.updateTask(), previous assignment removed for taskId={}", id);
+            stats.onUpdate(result.previous(), TaskCountKey.of(result.task()));
         }
 
-        int affected = taskDAO.updateTask(id, title, description, startDate, endDate, tags, status, priority, employeeId);
+        log.debug("Out TaskService.updateTask(), task updated id={}", id);
+        return result.task();
+    }
 
-        log.info("TaskService.updateTask(), rows affected={}", affected);
-        log.info("Out TaskService.updateTask(), task updated id={}", id);
+    public TaskStats getTaskStats() {
+        log.debug("In TaskService.getTaskStats()");
 
-        return taskDAO.findTaskById(id);
+        TaskStats stats = taskStats.snapshot();
+
+        log.debug("Out TaskService.getTaskStats(), total={}, overdue={}, unassigned={}", stats.total(), stats.overdue(), stats.unassigned());
+        return stats;
     }
 
     public TaskDTO getTaskById(Integer id) {
-        log.info("In TaskService.getTaskById() id={}", id);
+        return getTaskById(id, false);
+    }
+
+    public TaskDTO getTaskById(Integer id, boolean includeArchived) {
+        log.debug("In TaskService.getTaskById() id={}, includeArchived={}", id, includeArchived);
 
-        TaskDTO task = taskDAO.findTaskById(id);
+        TaskDTO task = includeArchived ? taskDAO.findTaskIncludingArchived(id) : taskDAO.findTaskById(id);
         if (task == null) {
             log.warn("Out TaskService.getTaskById(), task not found id={}", id);
             throw new IllegalStateException(String.format(TASK_NOT_FOUND,id));
         }
 
-        log.info("Out TaskService.getTaskById(), task found id={}", id);
+        log.debug("Out TaskService.getTaskById(), task found id={}", id);
         return task;
     }
 
+    @Transactional(readOnly = true)
     public List<TaskDTO> getAllTask() {
-        log.info("In TaskService.getAllTask()");
+        log.debug("In TaskService.getAllTask()");
 
         List<TaskDTO> tasks = taskDAO.getAllTasks();
-        log.info("Out TaskService.getAllTask(), totalTasks={}", tasks.size());
+        log.debug("Out TaskService.getAllTask(), totalTasks={}", tasks.size());
 
         return tasks;
     }
 
+    @Transactional(readOnly = true)
+    public int exportTasks(Consumer<TaskDTO> consumer) {
+        log.debug("In TaskService.exportTasks()");
+
+        int exported = taskDAO.streamAllTasks(EXPORT_FETCH_SIZE, consumer);
+
+        log.debug("Out TaskService.exportTasks(), totalTasks={}", exported);
+        return exported;
+    }
+
+    @Transactional(readOnly = true)
+    public List<TaskDTO> findTasks(TaskFilter filter) {
+        log.debug("In TaskService.findTasks() filter={}", filter);
+
+        validateFilter(filter);
+        List<TaskDTO> tasks = taskDAO.findTasks(filter, null, null);
+
+        log.debug("Out TaskService.findTasks(), totalTasks={}", tasks.size());
+        return tasks;
+    }
+
+    @Transactional(readOnly = true)
+    public TaskPage getTaskPage(TaskFilter filter, String cursor, Integer limit) {
+        log.debug("In TaskService.getTaskPage() filter={}, limit={}", filter, limit);
+
+        int pageSize = limit != null ? limit : DEFAULT_PAGE_SIZE;
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            log.warn("Out TaskService.getTaskPage(), invalid limit={}", limit);
+            throw new IllegalArgumentException(String.format(INVALID_PAGE_LIMIT, MAX_PAGE_SIZE));
+        }
+
+        validateFilter(filter);
+        TaskCursor after = cursor != null && !cursor.isBlank() ? TaskCursor.decode(cursor) : null;
+
+        // One extra row tells us whether another page exists without a separate COUNT query
+        List<TaskDTO> tasks = taskDAO.findTasks(filter, after, pageSize + 1);
+
+        String nextCursor = null;
+        if (tasks.size() > pageSize) {
+            tasks = tasks.subList(0, pageSize);
+            nextCursor = TaskCursor.after(tasks.getLast()).encode();
+        }
+
+        log.debug("Out TaskService.getTaskPage(), totalTasks={}, hasMore={}", tasks.size(), nextCursor != null);
+        return new TaskPage(tasks, nextCursor);
+    }
+
+    private void validateFilter(TaskFilter filter) {
+        if (filter.startFrom() != null && filter.startTo() != null && filter.startTo().isBefore(filter.startFrom())) {
+            log.warn("TaskService.validateFilter(), startTo before startFrom");
+            throw new IllegalArgumentException(String.format(INVALID_DATE_RANGE, "start"));
+        }
+        if (filter.endFrom() != null && filter.endTo() != null && filter.endTo().isBefore(filter.endFrom())) {
+            log.warn("TaskService.validateFilter(), endTo before endFrom");
+            throw new IllegalArgumentException(String.format(INVALID_DATE_RANGE, "end"));
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public TaskSearchPage searchTasks(String query, Integer page, Integer limit) {
+        log.debug("In TaskService.searchTasks() query={}, page={}, limit={}", query, page, limit);
+
+        if (query == null || query.isBlank()) {
+            log.warn("Out TaskService.searchTasks(), empty query");
+            throw new IllegalArgumentException(SEARCH_QUERY_CANT_BE_NULL);
+        }
+
+        int pageSize = limit != null ? limit : DEFAULT_PAGE_SIZE;
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            log.warn("Out TaskService.searchTasks(), invalid limit={}", limit);
+            throw new IllegalArgumentException(String.format(INVALID_PAGE_LIMIT, MAX_PAGE_SIZE));
+        }
+
+        // Ranked results have no stable keyset to resume from, and the ranking already sorts the full
+        // match set, so search pages by offset and caps how deep a client can go.
+        int pageNumber = page != null ? page : 1;
+        if (pageNumber < 1 || pageNumber > MAX_SEARCH_PAGE) {
+            log.warn("Out TaskService.searchTasks(), invalid page={}", page);
+            throw new IllegalArgumentException(String.format(INVALID_SEARCH_PAGE, MAX_SEARCH_PAGE));
+        }
+
+        List<TaskSearchHit> hits = taskDAO.searchTasks(query.trim(), (pageNumber - 1) * pageSize, pageSize + 1);
+
+        boolean hasMore = hits.size() > pageSize;
+        if (hasMore) {
+            hits = hits.subList(0, pageSize);
+        }
+
+        log.debug("Out TaskService.searchTasks(), totalHits={}, hasMore={}", hits.size(), hasMore);
+        return new TaskSearchPage(hits, pageNumber, pageSize, hasMore);
+    }
+
     public void deleteTask(Integer id) {
-        log.info("In TaskService.deleteTask() id={}", id);
+        log.debug("In TaskService.deleteTask() id={}", id);
 
         TaskDTO existingTask = taskDAO.findTaskById(id);
         if (existingTask == null) {
@@ -137,39 +314,47 @@ public class TaskService {
             throw new IllegalStateException(String.format(TASK_NOT_FOUND,id));
         }
 
-        taskDAO.deleteTaskById(id);
-        log.info("Out TaskService.deleteTask(), task deleted id={}", id);
+        // Only the caller that actually flipped is_deleted adjusts the counters
+        try (TaskStatsCounters.Write stats = taskStats.beginWrite()) {
+            if (taskDAO.deleteTaskById(id) > 0) {
+                stats.onDelete(TaskCountKey.of(existingTask));
+            }
+        }
+        log.debug("Out TaskService.deleteTask(), task deleted id={}", id);
     }
 
+    @Transactional(readOnly = true)
     public List<TaskDTO> getAllTaskAssignedToEmployee(Integer employeeId) {
-        log.info("In TaskService.getAllTaskAssignedToEmployee() employeeId={}", employeeId);
+        log.debug("In TaskService.getAllTaskAssignedToEmployee() employeeId={}", employeeId);
 
         List<TaskDTO> tasks = taskDAO.findTaskByEmployeeId(employeeId);
-        log.info("Out TaskService.getAllTaskAssignedToEmployee(), totalTasks={}", tasks.size());
+        log.debug("Out TaskService.getAllTaskAssignedToEmployee(), totalTasks={}", tasks.size());
 
         return tasks;
     }
 
+    @Transactional(readOnly = true)
     public List<TaskDTO> getTaskByStatus(StatusType status) {
-        log.info("In TaskService.getTaskByStatus() status={}", status);
+        log.debug("In TaskService.getTaskByStatus() status={}", status);
 
         List<TaskDTO> tasks = taskDAO.findTasksByStatus(status);
-        log.info("Out TaskService.getTaskByStatus(), totalTasks={}", tasks.size());
+        log.debug("Out TaskService.getTaskByStatus(), totalTasks={}", tasks.size());
 
         return tasks;
     }
 
+    @Transactional(readOnly = true)
     public List<TaskDTO> getTaskByPriority(PriorityType priority) {
-        log.info("In TaskService.getTaskByPriority() priority={}", priority);
+        log.debug("In TaskService.getTaskByPriority() priority={}", priority);
 
         List<TaskDTO> tasks = taskDAO.findTasksByPriority(priority);
-        log.info("Out TaskService.getTaskByPriority(), totalTasks={}", tasks.size());
+        log.debug("Out TaskService.getTaskByPriority(), totalTasks={}", tasks.size());
 
         return tasks;
     }
 
     public TaskDTO unAssignTask(Integer id) {
-        log.info("In TaskService.unAssignTask() taskId={}", id);
+        log.debug("In TaskService.unAssignTask() taskId={}", id);
 
         TaskDTO existingTask = taskDAO.findTaskById(id);
         if (existingTask == null) {
@@ -182,10 +367,17 @@ public class TaskService {
             throw new IllegalArgumentException("No assigned employee");
         }
 
-        int affected = taskDAO.unassignTask(id);
-        log.info("TaskService.unAssignTask(), rows affected={}", affected);
+        try (TaskStatsCounters.Write stats = taskStats.beginWrite()) {
+            int affected = taskDAO.unassignTask(id);
+            log.info("TaskService.unAssignTask(), rows affected={}", affected);
+
+            if (affected > 0) {
+                TaskCountKey before = TaskCountKey.of(existingTask);
+                stats.onUpdate(before, new TaskCountKey(before.status(), before.priority(), false, before.endDate()));
+            }
+        }
 
-        log.info("Out TaskService.unAssignTask(), task unassigned id={}", id);
+        log.debug("Out TaskService.unAssignTask(), task unassigned id={}", id);
         return taskDAO.findTaskById(id);
     }
 }
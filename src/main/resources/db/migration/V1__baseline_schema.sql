@@ -0,0 +1,61 @@
+-- Baseline schema as it existed before migrations were introduced.
+-- Every statement is idempotent so the script can be applied both to an empty database and to an
+-- environment whose tables were created by hand (spring.flyway.baseline-version=0 makes Flyway run it
+-- there too, filling in whatever is missing instead of assuming it is all present).
+
+CREATE TABLE IF NOT EXISTS tbl_static_task_status
+(
+    id    SERIAL PRIMARY KEY,
+    value VARCHAR(32) NOT NULL UNIQUE
+);
+
+CREATE TABLE IF NOT EXISTS tbl_static_task_priority
+(
+    id    SERIAL PRIMARY KEY,
+    value VARCHAR(32) NOT NULL UNIQUE
+);
+
+-- TaskLookupCache maps these values onto StatusType / PriorityType by name at startup
+INSERT INTO tbl_static_task_status (value)
+SELECT v.value
+FROM (VALUES ('TODO'), ('IN_PROGRESS'), ('REVIEW'), ('DONE')) AS v(value)
+WHERE NOT EXISTS (SELECT 1 FROM tbl_static_task_status s WHERE s.value = v.value);
+
+INSERT INTO tbl_static_task_priority (value)
+SELECT v.value
+FROM (VALUES ('LOW'), ('MEDIUM'), ('HIGH'), ('CRITICAL')) AS v(value)
+WHERE NOT EXISTS (SELECT 1 FROM tbl_static_task_priority p WHERE p.value = v.value);
+
+CREATE TABLE IF NOT EXISTS tbl_master_employee
+(
+    id             SERIAL PRIMARY KEY,
+    name           VARCHAR(255) NOT NULL,
+    email          VARCHAR(255) NOT NULL,
+    is_deactivated BOOLEAN      NOT NULL DEFAULT false,
+    created_at     TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at     TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    is_deleted     BOOLEAN      NOT NULL DEFAULT false
+);
+
+CREATE TABLE IF NOT EXISTS tbl_master_tasks
+(
+    id                   SERIAL PRIMARY KEY,
+    title                VARCHAR(255) NOT NULL,
+    description          TEXT         NOT NULL,
+    created_at           TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at           TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    assigned_employee_id INTEGER REFERENCES tbl_master_employee (id),
+    start_date           DATE         NOT NULL,
+    end_date             DATE         NOT NULL,
+    tags                 TEXT[],
+    status               INTEGER      NOT NULL REFERENCES tbl_static_task_status (id),
+    priority             INTEGER      NOT NULL REFERENCES tbl_static_task_priority (id),
+    is_deleted           BOOLEAN      NOT NULL DEFAULT false
+);
+
+CREATE TABLE IF NOT EXISTS tbl_employee_task_mapping
+(
+    id          SERIAL PRIMARY KEY,
+    employee_id INTEGER NOT NULL REFERENCES tbl_master_employee (id),
+    task_id     INTEGER NOT NULL REFERENCES tbl_master_tasks (id)
+);
@@ -0,0 +1,10 @@
+-- Backs the tag filters on GET /api/v1/tasks: tags && ? (match=any) and tags @> ? (match=all).
+-- The default array_ops GIN operator class supports both operators, so tag lookups become
+-- index scans instead of a sequential scan over every task.
+-- CONCURRENTLY keeps tbl_master_tasks writable while the index builds; PostgreSQL does not allow it
+-- inside a transaction, so this script must stay a single statement.
+-- Where no migration runner applies db/migration, run it by hand before deploying, in autocommit:
+--   psql -d taskmanager -f src/main/resources/db/migration/V2__task_tags_gin_index.sql
+-- IF NOT EXISTS turns a later run by a migration runner into a no-op.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_master_tasks_tags
+    ON tbl_master_tasks USING GIN (tags);
@@ -0,0 +1,19 @@
+-- Full-text search over task title and description for GET /api/v1/tasks/search.
+-- The tsvector is a stored generated column so PostgreSQL keeps it in sync on every INSERT/UPDATE
+-- without application code; titles weigh more than descriptions when ranking.
+-- Adding a stored generated column rewrites all of tbl_master_tasks while holding an ACCESS EXCLUSIVE
+-- lock, so every read and write of tasks waits until it is done. A migration runner applying this at
+-- application startup blocks the startup as long. On a large table, run it by hand in a maintenance
+-- window before deploying instead:
+--   psql -d taskmanager -f src/main/resources/db/migration/V3__task_search_vector.sql
+-- The same applies wherever no migration runner applies db/migration: the search endpoint needs
+-- search_vector to exist. IF NOT EXISTS turns a later run by a migration runner into a no-op.
+ALTER TABLE tbl_master_tasks
+    ADD COLUMN IF NOT EXISTS search_vector tsvector
+        GENERATED ALWAYS AS (
+            setweight(to_tsvector('english', coalesce(title, '')), 'A') ||
+            setweight(to_tsvector('english', coalesce(description, '')), 'B')
+        ) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_master_tasks_search
+    ON tbl_master_tasks USING GIN (search_vector);
@@ -0,0 +1,40 @@
+-- Indexes for the predicates TaskDAO and EmployeeDAO actually issue.
+-- Task queries always filter on is_deleted = false (written as a literal in the SQL, so the planner can
+-- match these partial indexes even for server-prepared generic plans) and soft-deleted rows are never
+-- read on the hot paths, so the task indexes skip them.
+-- CONCURRENTLY keeps the tables writable while building; Flyway runs a script made only of such
+-- statements outside a transaction.
+
+-- Keyset pagination and default ordering of GET /api/v1/tasks: ORDER BY created_at, id
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_master_tasks_live_created
+    ON tbl_master_tasks (created_at, id) WHERE is_deleted = false;
+
+-- status = ANY(?) / priority = ANY(?) filters
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_master_tasks_live_status
+    ON tbl_master_tasks (status) WHERE is_deleted = false;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_master_tasks_live_priority
+    ON tbl_master_tasks (priority) WHERE is_deleted = false;
+
+-- assignee filter, and the bulk unassign in EmployeeDAO.deleteEmployee
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_master_tasks_live_assignee
+    ON tbl_master_tasks (assigned_employee_id) WHERE is_deleted = false;
+
+-- findTaskByEmployeeId, workload aggregation and deleteEmployee look up by employee
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_employee_task_mapping_employee_task
+    ON tbl_employee_task_mapping (employee_id, task_id);
+
+-- unassignTask and the update CTE delete mappings by task
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_employee_task_mapping_task
+    ON tbl_employee_task_mapping (task_id);
+
+-- existingEmployeeByEmail, and the database-level guarantee behind EMAIL_ALREADY_EXISTS.
+-- Precondition: no two employees share an email, deactivated ones included. Otherwise this statement
+-- fails with "could not create unique index", the application does not start, and the failed build
+-- leaves an INVALID index behind that IF NOT EXISTS would then skip. Find the duplicates first with
+--   SELECT email, array_agg(id ORDER BY id) FROM tbl_master_employee GROUP BY email HAVING count(*) > 1;
+-- and after resolving them drop the leftover index before retrying:
+--   DROP INDEX CONCURRENTLY IF EXISTS uq_master_employee_email;
+-- (A check cannot run here: Flyway rejects a script mixing CONCURRENTLY with transactional statements.)
+CREATE UNIQUE INDEX CONCURRENTLY IF NOT EXISTS uq_master_employee_email
+    ON tbl_master_employee (email);
@@ -0,0 +1,33 @@
+-- Cold storage for tasks moved out of tbl_master_tasks by TaskArchiveService (DONE tasks past the
+-- retention window and soft-deleted rows). Range partitioned by month of archival so old months can be
+-- detached or dropped without touching the rest. Monthly partitions are created ahead of time by the
+-- archiver; the default partition only catches rows if that ever falls behind.
+-- No foreign keys: archived rows must survive their employee or lookup rows being removed.
+
+CREATE TABLE IF NOT EXISTS tbl_archived_tasks
+(
+    id                   INTEGER      NOT NULL,
+    title                VARCHAR(255) NOT NULL,
+    description          TEXT         NOT NULL,
+    created_at           TIMESTAMP    NOT NULL,
+    updated_at           TIMESTAMP    NOT NULL,
+    assigned_employee_id INTEGER,
+    start_date           DATE         NOT NULL,
+    end_date             DATE         NOT NULL,
+    tags                 TEXT[],
+    status               INTEGER      NOT NULL,
+    priority             INTEGER      NOT NULL,
+    is_deleted           BOOLEAN      NOT NULL,
+    archived_at          TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (id, archived_at)
+) PARTITION BY RANGE (archived_at);
+
+CREATE TABLE IF NOT EXISTS tbl_archived_tasks_default PARTITION OF tbl_archived_tasks DEFAULT;
+
+-- TaskDAO.findTaskIncludingArchived looks archived rows up by id through ARCHIVE_UNION_SOURCE
+CREATE INDEX IF NOT EXISTS idx_archived_tasks_id
+    ON tbl_archived_tasks (id);
+
+-- includeArchived listings are merged with the live set in (created_at, id) order
+CREATE INDEX IF NOT EXISTS idx_archived_tasks_created
+    ON tbl_archived_tasks (created_at, id);
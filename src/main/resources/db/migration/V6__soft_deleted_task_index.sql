@@ -0,0 +1,4 @@
+-- Lets the archiver pick soft-deleted rows without scanning the live set. Stays small because the
+-- archiver keeps draining it.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_master_tasks_soft_deleted
+    ON tbl_master_tasks (id) WHERE is_deleted = true;
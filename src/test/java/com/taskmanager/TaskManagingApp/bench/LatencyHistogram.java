@@ -0,0 +1,71 @@
+package com.taskmanager.TaskManagingApp.bench;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free log-linear latency histogram in microseconds, shared by every client recording into it.
+ * <p>
+ * Values below 128us get a bucket each; above that every power of two is split into 128 buckets,
+ * so a reported percentile is never more than 1% above the recorded value.
+ */
+class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 7;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    private final AtomicLongArray buckets = new AtomicLongArray((Long.SIZE - SUB_BUCKET_BITS + 1) * SUB_BUCKETS);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    void record(long nanos) {
+        long micros = Math.max(0, nanos / 1_000);
+        buckets.incrementAndGet(indexOf(micros));
+        count.incrementAndGet();
+        max.accumulateAndGet(micros, Math::max);
+    }
+
+    long count() {
+        return count.get();
+    }
+
+    long maxMicros() {
+        return max.get();
+    }
+
+    long percentileMicros(double percentile) {
+        long total = count.get();
+        if (total == 0) {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(percentile * total));
+        long seen = 0;
+        for (int i = 0; i < buckets.length(); i++) {
+            seen += buckets.get(i);
+            if (seen >= rank) {
+                return Math.min(highestValueIn(i), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    private static int indexOf(long micros) {
+        if (micros < SUB_BUCKETS) {
+            return (int) micros;
+        }
+        int msb = 63 - Long.numberOfLeadingZeros(micros);
+        int shift = msb - SUB_BUCKET_BITS;
+        int subBucket = (int) (micros >>> shift) - SUB_BUCKETS;
+        return (shift + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    private static long highestValueIn(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = index / SUB_BUCKETS - 1;
+        long subBucket = SUB_BUCKETS + index % SUB_BUCKETS;
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
@@ -0,0 +1,161 @@
+package com.taskmanager.TaskManagingApp.bench;
+
+import com.taskmanager.TaskManagingApp.dao.TaskLookupCache;
+import com.taskmanager.TaskManagingApp.models.PriorityType;
+import com.taskmanager.TaskManagingApp.models.StatusType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Tops the configured database up to a target number of employees and tasks with set-based
+ * INSERT ... SELECT generate_series statements, so a million rows take minutes rather than hours.
+ * <p>
+ * Only the difference to the current live row count is inserted, so running the load test again
+ * reuses what an earlier run seeded. Statuses, priorities and tags follow a skewed distribution and
+ * assignments favour a minority of employees, which is what the indexes and caches see in production.
+ */
+@Slf4j
+class LoadTestDataset {
+
+    // Shared with the workload so searches and tag filters hit seeded rows
+    static final String[] WORDS = {
+            "invoice", "billing", "customer", "onboarding", "migration", "database", "report", "dashboard",
+            "login", "password", "email", "export", "import", "payment", "refund", "search", "mobile",
+            "release", "deploy", "security", "audit", "backup", "latency", "cache", "pipeline", "contract",
+            "review", "design", "api", "webhook", "integration", "notification", "schedule", "timeout"
+    };
+
+    static final String[] TAGS = {
+            "backend", "frontend", "bug", "feature", "urgent", "tech-debt", "ops", "docs", "qa", "infra",
+            "security", "customer", "performance", "mobile", "data", "ux", "billing", "compliance"
+    };
+
+    private static final int CHUNK_SIZE = 50_000;
+
+    private static final String INSERT_EMPLOYEES_SQL = """
+            INSERT INTO tbl_master_employee (name, email, is_deactivated, created_at, updated_at)
+            SELECT 'Load Employee ' || s.n,
+                   'load.employee' || s.n || '@example.com',
+                   random() < 0.05,
+                   s.created_at,
+                   s.created_at
+            FROM (
+                SELECT g AS n, CURRENT_TIMESTAMP - random() * INTERVAL '730 days' AS created_at
+                FROM generate_series(?, ?) g
+            ) s
+            """;
+
+    // Percentages: status TODO 30, IN_PROGRESS 25, REVIEW 10, DONE 35;
+    // priority LOW 30, MEDIUM 40, HIGH 22, CRITICAL 8; 0-3 tags skewed towards the first ones;
+    // 80% assigned, skewed towards the first employees in the array; 2% soft-deleted.
+    private static final String INSERT_TASKS_SQL = """
+            WITH employees AS (
+                SELECT array_agg(id ORDER BY id) AS ids
+                FROM tbl_master_employee
+                WHERE is_deleted = false AND is_deactivated = false
+            ),
+            vocabulary AS (
+                SELECT ?::text[] AS words, ?::text[] AS tags
+            ),
+            generated AS (
+                SELECT g AS n,
+                       random() AS status_roll,
+                       random() AS priority_roll,
+                       floor(random() * 4)::int AS tag_count,
+                       random() AS assign_roll,
+                       CURRENT_DATE - floor(random() * 365)::int AS start_date,
+                       CURRENT_TIMESTAMP - random() * INTERVAL '365 days' AS created_at
+                FROM generate_series(1, ?) g
+            ),
+            inserted AS (
+                INSERT INTO tbl_master_tasks
+                (
+                    title,
+                    description,
+                    created_at,
+                    updated_at,
+                    assigned_employee_id,
+                    start_date,
+                    end_date,
+                    tags,
+                    status,
+                    priority,
+                    is_deleted
+                )
+                SELECT initcap(v.words[1 + floor(random() * cardinality(v.words))::int]) || ' '
+                           || v.words[1 + floor(random() * cardinality(v.words))::int] || ' #' || g.n,
+                       'Follow up on the ' || v.words[1 + floor(random() * cardinality(v.words))::int]
+                           || ' and ' || v.words[1 + floor(random() * cardinality(v.words))::int]
+                           || ' work for the ' || v.words[1 + floor(random() * cardinality(v.words))::int]
+                           || ' team before the ' || v.words[1 + floor(random() * cardinality(v.words))::int] || ' release',
+                       g.created_at,
+                       g.created_at + random() * (CURRENT_TIMESTAMP - g.created_at),
+                       CASE WHEN g.assign_roll < 0.8 AND cardinality(e.ids) > 0
+                            THEN e.ids[1 + floor(power(random(), 2) * cardinality(e.ids))::int] END,
+                       g.start_date,
+                       g.start_date + 1 + floor(random() * 60)::int,
+                       ARRAY(SELECT DISTINCT v.tags[1 + floor(power(random(), 2) * cardinality(v.tags))::int]
+                             FROM generate_series(1, g.tag_count)),
+                       CASE WHEN g.status_roll < 0.30 THEN ?
+                            WHEN g.status_roll < 0.55 THEN ?
+                            WHEN g.status_roll < 0.65 THEN ?
+                            ELSE ? END,
+                       CASE WHEN g.priority_roll < 0.30 THEN ?
+                            WHEN g.priority_roll < 0.70 THEN ?
+                            WHEN g.priority_roll < 0.92 THEN ?
+                            ELSE ? END,
+                       random() < 0.02
+                FROM generated g
+                CROSS JOIN employees e
+                CROSS JOIN vocabulary v
+                RETURNING id, assigned_employee_id
+            )
+            INSERT INTO tbl_employee_task_mapping (employee_id, task_id)
+            SELECT assigned_employee_id, id
+            FROM inserted
+            WHERE assigned_employee_id IS NOT NULL
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TaskLookupCache lookup;
+
+    LoadTestDataset(JdbcTemplate jdbcTemplate, TaskLookupCache lookup) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.lookup = lookup;
+    }
+
+    void seed(int employees, int tasks) {
+        log.info("In LoadTestDataset.seed() employees={}, tasks={}", employees, tasks);
+
+        int existingEmployees = count("SELECT COUNT(*) FROM tbl_master_employee WHERE is_deleted = false");
+        for (int from = existingEmployees + 1; from <= employees; from += CHUNK_SIZE) {
+            int to = Math.min(employees, from + CHUNK_SIZE - 1);
+            jdbcTemplate.update(INSERT_EMPLOYEES_SQL, from, to);
+            log.info("LoadTestDataset.seed() employees {}-{} inserted", from, to);
+        }
+
+        int existingTasks = count("SELECT COUNT(*) FROM tbl_master_tasks");
+        for (int remaining = tasks - existingTasks; remaining > 0; remaining -= CHUNK_SIZE) {
+            int chunk = Math.min(remaining, CHUNK_SIZE);
+            jdbcTemplate.update(INSERT_TASKS_SQL, WORDS, TAGS, chunk,
+                    lookup.statusId(StatusType.TODO), lookup.statusId(StatusType.IN_PROGRESS), lookup.statusId(StatusType.REVIEW), lookup.statusId(StatusType.DONE),
+                    lookup.priorityId(PriorityType.LOW), lookup.priorityId(PriorityType.MEDIUM), lookup.priorityId(PriorityType.HIGH), lookup.priorityId(PriorityType.CRITICAL));
+            log.info("LoadTestDataset.seed() {} tasks inserted, {} to go", chunk, remaining - chunk);
+        }
+
+        // Fresh statistics, otherwise the planner keeps costing the tables at their pre-seed size
+        jdbcTemplate.execute("ANALYZE tbl_master_employee, tbl_master_tasks, tbl_employee_task_mapping");
+
+        log.info("Out LoadTestDataset.seed(), employees={}, tasks={}", employees, tasks);
+    }
+
+    int maxId(String table) {
+        Integer max = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Integer.class);
+        return max == null ? 0 : max;
+    }
+
+    private int count(String sql) {
+        Integer count = jdbcTemplate.queryForObject(sql, Integer.class);
+        return count == null ? 0 : count;
+    }
+}
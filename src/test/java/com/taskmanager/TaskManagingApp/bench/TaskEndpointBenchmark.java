@@ -0,0 +1,102 @@
+package com.taskmanager.TaskManagingApp.bench;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Closed-loop load driver for the TaskController read endpoints, used to compare the app running on
+ * platform request threads (spring.threads.virtual.enabled=false) against virtual threads.
+ * <p>
+ * Each client is a virtual thread issuing requests back to back over its own connection for the
+ * given duration after a warmup. Not a test: run it against an already started app, e.g.
+ * <pre>
+ * mvn -q test-compile
+ * java -cp target/test-classes com.taskmanager.TaskManagingApp.bench.TaskEndpointBenchmark \
+ *     http://localhost:8080 1000 30 10 1000
+ * </pre>
+ * Arguments: base url, concurrent clients, measured seconds, warmup seconds, highest task id to fetch.
+ */
+public class TaskEndpointBenchmark {
+
+    private static final String[] PATHS = {
+            "/api/v1/tasks?limit=50",
+            "/api/v1/tasks?status=TODO&priority=LOW&limit=20",
+            "/api/v1/tasks/stats",
+            "/api/v1/tasks/%d"
+    };
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = args.length > 0 ? args[0] : "http://localhost:8080";
+        int clients = args.length > 1 ? Integer.parseInt(args[1]) : 1000;
+        Duration measured = Duration.ofSeconds(args.length > 2 ? Long.parseLong(args[2]) : 30);
+        Duration warmup = Duration.ofSeconds(args.length > 3 ? Long.parseLong(args[3]) : 10);
+        int maxTaskId = args.length > 4 ? Integer.parseInt(args[4]) : 1000;
+
+        System.out.printf("clients=%d warmup=%ds measured=%ds target=%s%n", clients, warmup.toSeconds(), measured.toSeconds(), baseUrl);
+
+        long warmupEnd = System.nanoTime() + warmup.toNanos();
+        long end = warmupEnd + measured.toNanos();
+
+        LongAdder completed = new LongAdder();
+        LongAdder errors = new LongAdder();
+        LatencyHistogram latencies = new LatencyHistogram();
+        CountDownLatch done = new CountDownLatch(clients);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int c = 0; c < clients; c++) {
+                executor.submit(() -> {
+                    // One connection per client, like a browser tab or service instance
+                    try (HttpClient http = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).connectTimeout(Duration.ofSeconds(30)).build()) {
+                        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+                        while (System.nanoTime() < end) {
+                            String path = PATHS[random.nextInt(PATHS.length)];
+                            if (path.contains("%d")) {
+                                path = path.formatted(1 + random.nextInt(maxTaskId));
+                            }
+                            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(Duration.ofSeconds(60)).GET().build();
+
+                            long start = System.nanoTime();
+                            try {
+                                HttpResponse<Void> response = http.send(request, HttpResponse.BodyHandlers.discarding());
+                                // 404 is a valid answer for a random id that was deleted or archived
+                                boolean ok = response.statusCode() == 200 || response.statusCode() == 404;
+                                if (start >= warmupEnd) {
+                                    if (!ok) {
+                                        errors.increment();
+                                    } else {
+                                        completed.increment();
+                                        latencies.record(System.nanoTime() - start);
+                                    }
+                                }
+                            } catch (Exception ex) {
+                                if (start >= warmupEnd) {
+                                    errors.increment();
+                                }
+                            }
+                        }
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+            done.await();
+        }
+
+        long total = completed.sum();
+        System.out.printf("requests=%d errors=%d throughput=%.0f req/s%n", total, errors.sum(), total / (double) measured.toSeconds());
+        if (total > 0) {
+            System.out.printf("latency ms p50=%.1f p90=%.1f p99=%.1f max=%.1f%n",
+                    latencies.percentileMicros(0.50) / 1e3, latencies.percentileMicros(0.90) / 1e3,
+                    latencies.percentileMicros(0.99) / 1e3, latencies.maxMicros() / 1e3);
+        }
+    }
+}
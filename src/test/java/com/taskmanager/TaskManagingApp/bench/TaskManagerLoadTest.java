@@ -0,0 +1,231 @@
+package com.taskmanager.TaskManagingApp.bench;
+
+import com.taskmanager.TaskManagingApp.dao.EmployeeCache;
+import com.taskmanager.TaskManagingApp.dao.TaskLookupCache;
+import com.taskmanager.TaskManagingApp.dao.TaskStatsCounters;
+import com.taskmanager.TaskManagingApp.models.PriorityType;
+import com.taskmanager.TaskManagingApp.models.StatusType;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * End-to-end load test: seeds the configured PostgreSQL, starts the application on a random port and
+ * drives the TaskController and EmployeeController endpoints with a mixed read/write workload, then
+ * prints throughput and latency percentiles per endpoint.
+ * <p>
+ * Tagged "load" and excluded from the normal build. Point it at a scratch database, since it inserts
+ * the seed data and keeps writing while it runs:
+ * <pre>
+ * mvn -Pload test -Dspring.datasource.url=jdbc:postgresql://localhost:5432/taskmanager_load \
+ *     -Dload.tasks=1000000 -Dload.employees=10000 -Dload.clients=32 -Dload.duration=60
+ * </pre>
+ * The app and the clients share the box, so compare runs made on the same machine only.
+ */
+@Tag("load")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "app.archive.enabled=false")
+class TaskManagerLoadTest {
+
+    private static final int EMPLOYEES = Integer.getInteger("load.employees", 10_000);
+    private static final int TASKS = Integer.getInteger("load.tasks", 1_000_000);
+    private static final int CLIENTS = Integer.getInteger("load.clients", 32);
+    private static final Duration WARMUP = Duration.ofSeconds(Integer.getInteger("load.warmup", 15));
+    private static final Duration MEASURED = Duration.ofSeconds(Integer.getInteger("load.duration", 60));
+    private static final double MAX_ERROR_RATE = Double.parseDouble(System.getProperty("load.max-error-rate", "0.01"));
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TaskLookupCache lookup;
+
+    @Autowired
+    private TaskStatsCounters taskStats;
+
+    @Autowired
+    private EmployeeCache employeeCache;
+
+    private int maxTaskId;
+    private int maxEmployeeId;
+
+    @BeforeAll
+    void seed() {
+        LoadTestDataset dataset = new LoadTestDataset(jdbcTemplate, lookup);
+        dataset.seed(EMPLOYEES, TASKS);
+        maxTaskId = dataset.maxId("tbl_master_tasks");
+        maxEmployeeId = dataset.maxId("tbl_master_employee");
+
+        // The rows went in behind the application's back
+        taskStats.markStale();
+        employeeCache.invalidateAll();
+    }
+
+    @Test
+    void mixedWorkload() throws InterruptedException {
+        List<Endpoint> endpoints = workload();
+        int totalWeight = endpoints.stream().mapToInt(Endpoint::weight).sum();
+
+        System.out.printf("load test: clients=%d warmup=%ds measured=%ds tasks<=%d employees<=%d%n",
+                CLIENTS, WARMUP.toSeconds(), MEASURED.toSeconds(), maxTaskId, maxEmployeeId);
+
+        long warmupEnd = System.nanoTime() + WARMUP.toNanos();
+        long end = warmupEnd + MEASURED.toNanos();
+        CountDownLatch done = new CountDownLatch(CLIENTS);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int c = 0; c < CLIENTS; c++) {
+                executor.submit(() -> {
+                    // One keep-alive connection per client, like a service instance calling the API
+                    try (HttpClient http = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).connectTimeout(Duration.ofSeconds(30)).build()) {
+                        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+                        while (System.nanoTime() < end) {
+                            Endpoint endpoint = pick(endpoints, random.nextInt(totalWeight));
+                            HttpRequest request = endpoint.request().apply(random);
+
+                            long start = System.nanoTime();
+                            boolean ok;
+                            try {
+                                int status = http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                                // 404 is a valid answer for a random id that does not exist (any more)
+                                ok = status < 400 || status == 404;
+                            } catch (Exception ex) {
+                                ok = false;
+                            }
+
+                            if (start >= warmupEnd) {
+                                endpoint.record(System.nanoTime() - start, ok);
+                            }
+                        }
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+            done.await();
+        }
+
+        report(endpoints);
+
+        long requests = endpoints.stream().mapToLong(e -> e.latency().count()).sum();
+        long errors = endpoints.stream().mapToLong(e -> e.errors().sum()).sum();
+        assertTrue(requests > 0, "no requests completed in the measured window");
+        assertTrue(errors <= requests * MAX_ERROR_RATE, "error rate above " + MAX_ERROR_RATE + ": " + errors + "/" + requests);
+    }
+
+    // Roughly 88% reads and 12% writes, weighted towards the list and detail views of the UI
+    private List<Endpoint> workload() {
+        List<Endpoint> endpoints = new ArrayList<>();
+
+        endpoints.add(new Endpoint("GET tasks (list)", 18, random -> get("/api/v1/tasks?limit=50")));
+        endpoints.add(new Endpoint("GET tasks (status+priority)", 14, random -> get("/api/v1/tasks?status=%s&priority=%s&limit=20"
+                .formatted(pick(random, StatusType.values()), pick(random, PriorityType.values())))));
+        endpoints.add(new Endpoint("GET tasks (tag)", 8, random -> get("/api/v1/tasks?tag=%s&limit=20".formatted(pick(random, LoadTestDataset.TAGS)))));
+        endpoints.add(new Endpoint("GET tasks/{id}", 20, random -> get("/api/v1/tasks/" + (1 + random.nextInt(maxTaskId)))));
+        endpoints.add(new Endpoint("GET tasks/search", 5, random -> get("/api/v1/tasks/search?q=%s&limit=20".formatted(pick(random, LoadTestDataset.WORDS)))));
+        endpoints.add(new Endpoint("GET tasks/stats", 4, random -> get("/api/v1/tasks/stats")));
+        endpoints.add(new Endpoint("GET tasks/user/{taskId}", 5, random -> get("/api/v1/tasks/user/" + (1 + random.nextInt(maxTaskId)))));
+        endpoints.add(new Endpoint("GET employee/{id}", 8, random -> get("/api/v1/employee/" + (1 + random.nextInt(maxEmployeeId)))));
+        endpoints.add(new Endpoint("GET employee/workload", 3, random -> get("/api/v1/employee/workload?limit=50")));
+        endpoints.add(new Endpoint("GET employee/{id}/tasks", 3, random -> get("/api/v1/employee/%d/tasks".formatted(1 + random.nextInt(maxEmployeeId)))));
+
+        endpoints.add(new Endpoint("POST tasks/create", 5, random -> {
+            LocalDate start = LocalDate.now().plusDays(random.nextInt(30));
+            return send("POST", "/api/v1/tasks/create", """
+                    {"title":"Load %s","description":"Created by the load test","startDate":"%s","endDate":"%s","tags":["%s"],"status":"TODO","priority":"%s"}"""
+                    .formatted(pick(random, LoadTestDataset.WORDS), start, start.plusDays(1 + random.nextInt(30)), pick(random, LoadTestDataset.TAGS), pick(random, PriorityType.values())));
+        }));
+        endpoints.add(new Endpoint("PATCH tasks/update", 5, random -> send("PATCH", "/api/v1/tasks/update", """
+                {"id":%d,"status":"%s","assignedEmployeeId":%d}"""
+                .formatted(1 + random.nextInt(maxTaskId), pick(random, StatusType.values()), 1 + random.nextInt(maxEmployeeId)))));
+        endpoints.add(new Endpoint("PATCH employee/update", 2, random -> {
+            int id = 1 + random.nextInt(maxEmployeeId);
+            return send("PATCH", "/api/v1/employee/update", """
+                    {"id":%d,"name":"Load Employee %d"}""".formatted(id, id));
+        }));
+
+        return endpoints;
+    }
+
+    private void report(List<Endpoint> endpoints) {
+        double seconds = MEASURED.toSeconds();
+
+        System.out.printf("%-30s %9s %7s %9s %9s %9s %9s %9s%n", "endpoint", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "max ms");
+        for (Endpoint endpoint : endpoints) {
+            LatencyHistogram latency = endpoint.latency();
+            System.out.printf("%-30s %9d %7d %9.1f %9.1f %9.1f %9.1f %9.1f%n",
+                    endpoint.name(), latency.count(), endpoint.errors().sum(), latency.count() / seconds,
+                    latency.percentileMicros(0.50) / 1e3, latency.percentileMicros(0.90) / 1e3,
+                    latency.percentileMicros(0.99) / 1e3, latency.maxMicros() / 1e3);
+        }
+
+        long total = endpoints.stream().mapToLong(e -> e.latency().count()).sum();
+        System.out.printf("%-30s %9d %7d %9.1f%n", "total", total, endpoints.stream().mapToLong(e -> e.errors().sum()).sum(), total / seconds);
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path)).timeout(Duration.ofSeconds(60)).GET().build();
+    }
+
+    private HttpRequest send(String method, String path, String json) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .timeout(Duration.ofSeconds(60))
+                .header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    private static Endpoint pick(List<Endpoint> endpoints, int roll) {
+        for (Endpoint endpoint : endpoints) {
+            roll -= endpoint.weight();
+            if (roll < 0) {
+                return endpoint;
+            }
+        }
+        return endpoints.getLast();
+    }
+
+    private static <T> T pick(ThreadLocalRandom random, T[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private record Endpoint(String name, int weight, Function<ThreadLocalRandom, HttpRequest> request, LatencyHistogram latency, LongAdder errors) {
+
+        Endpoint(String name, int weight, Function<ThreadLocalRandom, HttpRequest> request) {
+            this(name, weight, request, new LatencyHistogram(), new LongAdder());
+        }
+
+        void record(long nanos, boolean ok) {
+            latency.record(nanos);
+            if (!ok) {
+                errors.increment();
+            }
+        }
+    }
+}
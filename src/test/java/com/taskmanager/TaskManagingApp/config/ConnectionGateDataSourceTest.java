@@ -0,0 +1,104 @@
+package com.taskmanager.TaskManagingApp.config;
+
+import com.zaxxer.hikari.HikariConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ConnectionGateDataSourceTest {
+
+    // What the pool connects through, standing in for the JDBC driver
+    @Mock
+    private DataSource driver;
+
+    @Mock
+    private Connection connection;
+
+    private ConnectionGateDataSource gate;
+
+    @BeforeEach
+    void setup() throws SQLException {
+        lenient().when(connection.isValid(anyInt())).thenReturn(true);
+
+        HikariConfig config = new HikariConfig();
+        config.setDataSource(driver);
+        config.setPoolName("gate-test");
+        config.setMaximumPoolSize(2);
+        config.setConnectionTimeout(250);
+        config.setInitializationFailTimeout(-1);
+        gate = new ConnectionGateDataSource(config, 2, Duration.ofMillis(50));
+    }
+
+    @AfterEach
+    void tearDown() {
+        gate.close();
+    }
+
+    @Test
+    void constructor_takesOverThePoolSettings() {
+        assertEquals("gate-test", gate.getPoolName());
+        assertEquals(2, gate.getMaximumPoolSize());
+        assertFalse(gate.isRunning());
+    }
+
+    @Test
+    void getConnection_holdsPermitUntilClosed() throws Exception {
+        when(driver.getConnection()).thenReturn(connection);
+
+        Connection borrowed = gate.getConnection();
+        assertEquals(1, gate.getAvailablePermits());
+
+        borrowed.close();
+        borrowed.close();
+
+        assertEquals(2, gate.getAvailablePermits());
+    }
+
+    @Test
+    void getConnection_timesOut_whenAllPermitsTaken() throws Exception {
+        when(driver.getConnection()).thenReturn(connection);
+
+        gate.getConnection();
+        gate.getConnection();
+
+        SQLTransientConnectionException ex = assertThrows(SQLTransientConnectionException.class, () -> gate.getConnection());
+        assertTrue(ex.getMessage().contains("permit"));
+    }
+
+    @Test
+    void getConnection_releasesPermit_whenPoolFails() throws Exception {
+        when(driver.getConnection()).thenThrow(new SQLException("database down"));
+
+        assertThrows(SQLException.class, () -> gate.getConnection());
+
+        assertEquals(2, gate.getAvailablePermits());
+    }
+
+    @Test
+    void close_closesThePool() {
+        gate.close();
+
+        assertTrue(gate.isClosed());
+    }
+
+    @Test
+    void close_reachesThePoolThroughTheTracingWrapper() throws Exception {
+        new SqlTraceDataSource(gate, null).close();
+
+        assertTrue(gate.isClosed());
+    }
+}
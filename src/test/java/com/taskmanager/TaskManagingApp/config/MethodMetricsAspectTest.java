@@ -0,0 +1,109 @@
+package com.taskmanager.TaskManagingApp.config;
+
+import com.taskmanager.TaskManagingApp.dao.EmployeeCache;
+import com.taskmanager.TaskManagingApp.dao.EmployeeDAO;
+import com.taskmanager.TaskManagingApp.dao.InvalidationBus;
+import com.taskmanager.TaskManagingApp.dao.ReactiveTaskDAO;
+import com.taskmanager.TaskManagingApp.dao.StatementShapeCache;
+import com.taskmanager.TaskManagingApp.dao.TaskLookupCache;
+import com.taskmanager.TaskManagingApp.dao.TaskStatsCounters;
+import com.taskmanager.TaskManagingApp.dto.EmployeeDTO;
+import com.taskmanager.TaskManagingApp.dto.TaskDTO;
+import com.taskmanager.TaskManagingApp.dto.TaskUpdateResult;
+import com.taskmanager.TaskManagingApp.service.ReactiveTaskService;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MethodMetricsAspectTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private ReactiveTaskDAO reactiveTaskDAO;
+
+    private SimpleMeterRegistry registry;
+    private EmployeeDAO employeeDAO;
+    private ReactiveTaskService reactiveTaskService;
+
+    @BeforeEach
+    void setup() {
+        registry = new SimpleMeterRegistry();
+        MethodMetricsAspect aspect = new MethodMetricsAspect(registry);
+
+        employeeDAO = proxy(new EmployeeDAO(jdbcTemplate, new StatementShapeCache(), mock(EmployeeCache.class), mock(InvalidationBus.class), mock(TaskStatsCounters.class), mock(TaskLookupCache.class)), aspect);
+        reactiveTaskService = proxy(new ReactiveTaskService(reactiveTaskDAO), aspect);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void daoMethod_recordsDurationAndRows() {
+        EmployeeDTO employee = mock(EmployeeDTO.class);
+        when(jdbcTemplate.query(anyString(), any(ResultSetExtractor.class), any(Object[].class))).thenReturn(Map.of(1, employee, 2, employee));
+
+        employeeDAO.findEmployeesByIds(List.of(1, 2));
+
+        assertEquals(1, timer("EmployeeDAO", "findEmployeesByIds", "success").count());
+        assertEquals(2.0, registry.get(MethodMetricsAspect.ROWS_METRIC).tags("class", "EmployeeDAO", "method", "findEmployeesByIds").counter().count());
+        assertNull(registry.find(MethodMetricsAspect.DURATION_METRIC).tags("method", "findEmployeesByIds", "outcome", "error").timer());
+    }
+
+    @Test
+    void daoMethod_countsErrorsByException() {
+        when(jdbcTemplate.queryForObject(anyString(), eq(Integer.class), any(Object[].class))).thenThrow(new DataAccessResourceFailureException("down"));
+
+        assertThrows(DataAccessResourceFailureException.class, () -> employeeDAO.deactivateEmployee(7));
+
+        assertEquals(1, timer("EmployeeDAO", "deactivateEmployee", "error").count());
+        assertEquals(1.0, registry.get(MethodMetricsAspect.ERRORS_METRIC)
+                .tags("layer", "dao", "method", "deactivateEmployee", "exception", "DataAccessResourceFailureException").counter().count());
+    }
+
+    @Test
+    void fluxResult_isTimedWhenItCompletes() {
+        when(reactiveTaskDAO.getAllTasks()).thenReturn(Flux.just(mock(TaskDTO.class), mock(TaskDTO.class)));
+
+        Flux<TaskDTO> tasks = reactiveTaskService.streamTasks(null, null);
+        assertEquals(0, timer("ReactiveTaskService", "streamTasks", "success").count());
+
+        assertEquals(2, tasks.collectList().block().size());
+        assertEquals(1, timer("ReactiveTaskService", "streamTasks", "success").count());
+    }
+
+    @Test
+    void rowsIn_countsStreamedRowsAndFoundUpdatesOnly() {
+        assertEquals(42, MethodMetricsAspect.rowsIn(42, true));
+        assertEquals(0, MethodMetricsAspect.rowsIn(42, false));
+        assertEquals(0, MethodMetricsAspect.rowsIn(new TaskUpdateResult(false, false, false, null, null), false));
+        assertEquals(1, MethodMetricsAspect.rowsIn(new TaskUpdateResult(true, true, false, null, mock(TaskDTO.class)), false));
+    }
+
+    private Timer timer(String className, String method, String outcome) {
+        return registry.get(MethodMetricsAspect.DURATION_METRIC).tags("class", className, "method", method, "outcome", outcome).timer();
+    }
+
+    private static <T> T proxy(T target, MethodMetricsAspect aspect) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(aspect);
+        return factory.getProxy();
+    }
+}
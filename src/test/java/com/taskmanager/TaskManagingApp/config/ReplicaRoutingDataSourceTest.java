@@ -0,0 +1,87 @@
+package com.taskmanager.TaskManagingApp.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReplicaRoutingDataSourceTest {
+
+    @Mock
+    private DataSource primary;
+
+    @Mock
+    private DataSource replica;
+
+    @Mock
+    private ReplicaLagMonitor lagMonitor;
+
+    @Mock
+    private Connection primaryConnection;
+
+    @Mock
+    private Connection replicaConnection;
+
+    private ReplicaRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setup() {
+        routingDataSource = new ReplicaRoutingDataSource(primary, replica, lagMonitor);
+    }
+
+    @AfterEach
+    void clearTransactionState() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    void readOnlyTransaction_goesToReplica() throws Exception {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(lagMonitor.isReplicaUsable()).thenReturn(true);
+        when(replica.getConnection()).thenReturn(replicaConnection);
+
+        assertSame(replicaConnection, routingDataSource.getConnection());
+        verify(primary, never()).getConnection();
+    }
+
+    @Test
+    void readOnlyTransaction_fallsBackToPrimary_whenReplicaLagging() throws Exception {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(lagMonitor.isReplicaUsable()).thenReturn(false);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        assertSame(primaryConnection, routingDataSource.getConnection());
+        verify(replica, never()).getConnection();
+    }
+
+    @Test
+    void readOnlyTransaction_fallsBackToPrimary_whenReplicaUnreachable() throws Exception {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        SQLException failure = new SQLException("connection refused");
+        when(lagMonitor.isReplicaUsable()).thenReturn(true);
+        when(replica.getConnection()).thenThrow(failure);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        assertSame(primaryConnection, routingDataSource.getConnection());
+        verify(lagMonitor).markUnreachable(failure);
+    }
+
+    @Test
+    void writes_alwaysGoToPrimary() throws Exception {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        assertSame(primaryConnection, routingDataSource.getConnection());
+        verifyNoInteractions(replica, lagMonitor);
+    }
+}
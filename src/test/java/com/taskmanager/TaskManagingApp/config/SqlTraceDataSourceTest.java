@@ -0,0 +1,92 @@
+package com.taskmanager.TaskManagingApp.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Types;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SqlTraceDataSourceTest {
+
+    private static final String SQL = "SELECT id FROM tbl_master_tasks WHERE status = ? AND assigned_employee_id = ?";
+
+    @Mock
+    private DataSource pool;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private PreparedStatement statement;
+
+    @Mock
+    private ResultSet resultSet;
+
+    @Mock
+    private SqlTraceRecorder recorder;
+
+    private SqlTraceDataSource dataSource;
+
+    @BeforeEach
+    void setup() throws Exception {
+        when(pool.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(SQL)).thenReturn(statement);
+        dataSource = new SqlTraceDataSource(pool, recorder);
+    }
+
+    @Test
+    void query_isRecordedOnClose_withBindsAndFetchedRows() throws Exception {
+        when(statement.executeQuery()).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true, true, true, false);
+
+        try (Connection traced = dataSource.getConnection();
+             PreparedStatement ps = traced.prepareStatement(SQL)) {
+            ps.setInt(1, 2);
+            ps.setNull(2, Types.INTEGER);
+
+            ResultSet rs = ps.executeQuery();
+            while (rs.next()) {
+                rs.getInt(1);
+            }
+            assertSame(ps, rs.getStatement());
+            verifyNoInteractions(recorder);
+        }
+
+        verify(recorder).record(eq(SQL), argThat(binds -> binds[0].equals(2) && binds[1] == null), eq(2), anyLong(), eq(3L), same(pool));
+        verify(statement).close();
+    }
+
+    @Test
+    void update_isRecordedWithAffectedRows() throws Exception {
+        when(statement.executeUpdate()).thenReturn(5);
+
+        try (Connection traced = dataSource.getConnection();
+             PreparedStatement ps = traced.prepareStatement(SQL)) {
+            ps.setString(1, "x");
+            assertEquals(5, ps.executeUpdate());
+        }
+
+        verify(recorder, times(1)).record(eq(SQL), any(), eq(1), anyLong(), eq(5L), same(pool));
+    }
+
+    @Test
+    void statementClosedWithoutExecuting_isNotRecorded() throws Exception {
+        try (Connection traced = dataSource.getConnection();
+             PreparedStatement ps = traced.prepareStatement(SQL)) {
+            ps.setFetchSize(100);
+        }
+
+        verifyNoInteractions(recorder);
+    }
+}
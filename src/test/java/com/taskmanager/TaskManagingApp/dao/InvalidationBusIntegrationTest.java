@@ -0,0 +1,172 @@
+package com.taskmanager.TaskManagingApp.dao;
+
+import com.taskmanager.TaskManagingApp.models.PriorityType;
+import com.taskmanager.TaskManagingApp.models.StatusType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs against the configured PostgreSQL: the Spring context is one node, a second bus built by hand
+ * with a recording listener plays the other node.
+ */
+@SpringBootTest
+class InvalidationBusIntegrationTest {
+
+    @Autowired
+    private InvalidationBus invalidationBus;
+
+    @Autowired
+    private EmployeeCache employeeCache;
+
+    @Autowired
+    private TaskDAO taskDAO;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${spring.datasource.url}")
+    private String url;
+
+    @Value("${spring.datasource.username}")
+    private String username;
+
+    @Value("${spring.datasource.password}")
+    private String password;
+
+    private final BlockingQueue<String> received = new LinkedBlockingQueue<>();
+    private final BlockingQueue<String> receivedTasks = new LinkedBlockingQueue<>();
+    private InvalidationBus remoteNode;
+
+    @BeforeEach
+    void setup() throws InterruptedException {
+        InvalidationListener recorder = new InvalidationListener() {
+            @Override
+            public InvalidationEntity entity() {
+                return InvalidationEntity.EMPLOYEE;
+            }
+
+            @Override
+            public void evict(Integer id) {
+                received.add("evict:" + id);
+            }
+
+            @Override
+            public void evictAll() {
+                received.add("evictAll");
+            }
+        };
+
+        InvalidationListener taskRecorder = new InvalidationListener() {
+            @Override
+            public InvalidationEntity entity() {
+                return InvalidationEntity.TASK;
+            }
+
+            @Override
+            public void evict(Integer id) {
+                receivedTasks.add("evict:" + id);
+            }
+
+            @Override
+            public void evictAll() {
+                receivedTasks.add("evictAll");
+            }
+        };
+
+        remoteNode = new InvalidationBus(jdbcTemplate, List.of(recorder, taskRecorder), url, username, password, true);
+        remoteNode.start();
+        awaitConnected(remoteNode);
+        awaitConnected(invalidationBus);
+
+        // The flush on connect is expected, drop it before asserting on real traffic
+        assertEquals("evictAll", received.poll(5, TimeUnit.SECONDS));
+        assertEquals("evictAll", receivedTasks.poll(5, TimeUnit.SECONDS));
+    }
+
+    @AfterEach
+    void tearDown() {
+        remoteNode.stop();
+    }
+
+    @Test
+    void publish_shouldReachOtherNodes() throws InterruptedException {
+        invalidationBus.publish(InvalidationEntity.EMPLOYEE, 42);
+        invalidationBus.publishAll(InvalidationEntity.EMPLOYEE);
+
+        assertEquals("evict:42", received.poll(5, TimeUnit.SECONDS));
+        assertEquals("evictAll", received.poll(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void publish_shouldSkipOwnNotifications_andIgnoreOtherEntities() throws InterruptedException {
+        remoteNode.publish(InvalidationEntity.EMPLOYEE, 7);
+        invalidationBus.publish(InvalidationEntity.TASK, 7);
+        invalidationBus.publish(InvalidationEntity.EMPLOYEE, 8);
+
+        assertEquals("evict:8", received.poll(5, TimeUnit.SECONDS));
+        assertNull(received.poll(500, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void publish_fromOtherNode_shouldEvictLocalEmployeeCache() throws InterruptedException {
+        long before = employeeCache.stats().invalidations();
+
+        remoteNode.publish(InvalidationEntity.EMPLOYEE, 7);
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (employeeCache.stats().invalidations() == before && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertEquals(before + 1, employeeCache.stats().invalidations());
+    }
+
+    @Test
+    void taskWrites_shouldNotifyFromTheirOwnStatement_onlyWhenARowChanged() throws InterruptedException {
+        Integer id = taskDAO.createTask("Invalidation probe", "Cross-node notification check", LocalDate.now(), LocalDate.now().plusDays(1), null, StatusType.TODO, PriorityType.LOW);
+        assertEquals("evict:" + id, receivedTasks.poll(5, TimeUnit.SECONDS));
+
+        assertEquals(0, taskDAO.unassignTask(id));
+        assertEquals(1, taskDAO.deleteTaskById(id));
+        assertEquals(0, taskDAO.deleteTaskById(id));
+
+        assertEquals("evict:" + id, receivedTasks.poll(5, TimeUnit.SECONDS));
+        assertNull(receivedTasks.poll(500, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void listener_shouldReconnectAndFlush_whenConnectionDrops() throws InterruptedException {
+        jdbcTemplate.query("""
+                SELECT pg_terminate_backend(pid)
+                FROM pg_stat_activity
+                WHERE query = 'LISTEN %s' AND pid <> pg_backend_pid()
+                """.formatted(InvalidationBus.CHANNEL), rs -> null);
+
+        // Anything published while down is lost, so the reconnect must flush everything
+        assertEquals("evictAll", received.poll(10, TimeUnit.SECONDS));
+        awaitConnected(remoteNode);
+
+        invalidationBus.publish(InvalidationEntity.EMPLOYEE, 9);
+        assertEquals("evict:9", received.poll(5, TimeUnit.SECONDS));
+    }
+
+    private static void awaitConnected(InvalidationBus bus) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!bus.isConnected() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertTrue(bus.isConnected());
+    }
+}
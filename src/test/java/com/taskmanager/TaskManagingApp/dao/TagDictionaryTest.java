@@ -0,0 +1,95 @@
+package com.taskmanager.TaskManagingApp.dao;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TagDictionaryTest {
+
+    private final TagDictionary dictionary = new TagDictionary(16);
+
+    @Test
+    void decodeText_shouldHandleQuotedEscapedAndNullElements() {
+        String[] tags = dictionary.decode(bytes("{a,\"b c\",\"x\\\"y\",NULL,\"q,w\",\"NULL\",\"\",ünï}"), false);
+
+        assertArrayEquals(new String[]{"a", "b c", "x\"y", null, "q,w", "NULL", "", "ünï"}, tags);
+        assertEquals(0, dictionary.decode(bytes("{}"), false).length);
+    }
+
+    @Test
+    void decodeBinary_shouldReadOneDimensionalTextArray() throws IOException {
+        String[] tags = dictionary.decode(binaryArray("a", "b c", null, "ünï"), true);
+
+        assertArrayEquals(new String[]{"a", "b c", null, "ünï"}, tags);
+        assertEquals(0, dictionary.decode(new byte[]{0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 25}, true).length);
+    }
+
+    @Test
+    void decode_shouldShareInstancesAcrossRowsAndFormats() throws IOException {
+        String[] first = dictionary.decode(bytes("{backend,urgent}"), false);
+        String[] second = dictionary.decode(binaryArray("urgent", "backend"), true);
+        String[] third = dictionary.canonicalize(new String[]{new String("backend")});
+
+        assertNotSame(first, second);
+        assertSame(first[0], second[1]);
+        assertSame(first[1], second[0]);
+        assertSame(first[0], third[0]);
+        assertEquals(2, dictionary.size());
+    }
+
+    @Test
+    void resolve_shouldStopSharingOnceFull() {
+        TagDictionary small = new TagDictionary(2);
+        small.decode(bytes("{a,b}"), false);
+
+        String[] first = small.decode(bytes("{c}"), false);
+        String[] second = small.decode(bytes("{c}"), false);
+
+        assertEquals("c", first[0]);
+        assertNotSame(first[0], second[0]);
+        assertEquals(2, small.size());
+    }
+
+    @Test
+    void decode_shouldRejectLayoutsItDoesNotUnderstand() throws IOException {
+        ByteArrayOutputStream twoDimensional = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(twoDimensional);
+        out.writeInt(2);
+        out.writeInt(0);
+        out.writeInt(25);
+
+        assertNull(dictionary.decode(twoDimensional.toByteArray(), true));
+        assertNull(dictionary.decode(bytes("[0:1]={a,b}"), false));
+        assertNull(dictionary.decode(bytes("{{a,b},{c,d}}"), false));
+        assertArrayEquals(new String[0], dictionary.canonicalize(null));
+    }
+
+    private static byte[] bytes(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] binaryArray(String... values) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(1);
+        out.writeInt(1);
+        out.writeInt(25);
+        out.writeInt(values.length);
+        out.writeInt(1);
+        for (String value : values) {
+            if (value == null) {
+                out.writeInt(-1);
+            } else {
+                byte[] utf8 = bytes(value);
+                out.writeInt(utf8.length);
+                out.write(utf8);
+            }
+        }
+        return bytes.toByteArray();
+    }
+}
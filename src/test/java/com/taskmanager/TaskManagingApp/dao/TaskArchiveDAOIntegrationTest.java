@@ -0,0 +1,59 @@
+package com.taskmanager.TaskManagingApp.dao;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.YearMonth;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs against the configured PostgreSQL, on a month long past so real archive partitions are not touched.
+ */
+@SpringBootTest
+class TaskArchiveDAOIntegrationTest {
+
+    private static final YearMonth MONTH = YearMonth.of(2001, 1);
+    private static final String PARTITION = "tbl_archived_tasks_2001_01";
+
+    @Autowired
+    private TaskArchiveDAO taskArchiveDAO;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + PARTITION);
+        jdbcTemplate.update("DELETE FROM tbl_archived_tasks_default WHERE archived_at < '2001-02-01'");
+    }
+
+    @Test
+    void ensurePartition_shouldMoveRowsTheDefaultPartitionCaught() {
+        jdbcTemplate.update("""
+                INSERT INTO tbl_archived_tasks
+                (id, title, description, created_at, updated_at, start_date, end_date, status, priority, is_deleted, archived_at)
+                VALUES (-1, 'Caught by default', 'Archived before its partition existed', '2001-01-01', '2001-01-01',
+                        '2001-01-01', '2001-01-02', 1, 1, true, '2001-01-15 10:00')
+                """);
+
+        taskArchiveDAO.ensurePartition(MONTH);
+        // Nothing left to move, so a second run is a no-op instead of failing again
+        taskArchiveDAO.ensurePartition(MONTH);
+
+        assertEquals(1, count("SELECT COUNT(*) FROM " + PARTITION + " WHERE id = -1"));
+        assertEquals(0, count("SELECT COUNT(*) FROM tbl_archived_tasks_default WHERE id = -1"));
+        assertEquals(1, count("""
+                SELECT COUNT(*) FROM pg_inherits
+                WHERE inhparent = 'tbl_archived_tasks'::regclass
+                  AND inhrelid = 'tbl_archived_tasks_default'::regclass
+                """));
+    }
+
+    private int count(String sql) {
+        return jdbcTemplate.queryForObject(sql, Integer.class);
+    }
+}
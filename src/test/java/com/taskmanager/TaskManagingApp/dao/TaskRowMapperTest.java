@@ -0,0 +1,91 @@
+package com.taskmanager.TaskManagingApp.dao;
+
+import com.taskmanager.TaskManagingApp.dto.TaskDTO;
+import com.taskmanager.TaskManagingApp.models.PriorityType;
+import com.taskmanager.TaskManagingApp.models.StatusType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.sql.Array;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskRowMapperTest {
+
+    @Mock
+    private TaskLookupCache lookup;
+
+    @Mock
+    private ResultSet rs;
+
+    private TaskRowMapper mapper;
+
+    @BeforeEach
+    void setup() throws SQLException {
+        mapper = new TaskRowMapper(lookup, new TagDictionary(16));
+
+        // Positions as a joined query would report them, not the table order
+        String[] columns = {"updated_at", "id", "title", "description", "created_at", "assigned_employee_id",
+                "start_date", "end_date", "tags", "status", "priority"};
+        for (int i = 0; i < columns.length; i++) {
+            lenient().when(rs.findColumn(columns[i])).thenReturn(i + 1);
+        }
+        when(lookup.status(2)).thenReturn(StatusType.IN_PROGRESS);
+        when(lookup.priority(3)).thenReturn(PriorityType.HIGH);
+    }
+
+    @Test
+    void mapRow_shouldReadColumnsByResolvedPosition() throws SQLException {
+        Array tags = mock(Array.class);
+        when(tags.getArray()).thenReturn(new String[]{"backend", "urgent"});
+
+        when(rs.getObject(1, LocalDateTime.class)).thenReturn(LocalDateTime.of(2025, 1, 2, 10, 0));
+        when(rs.getInt(2)).thenReturn(42);
+        when(rs.getString(3)).thenReturn("Title");
+        when(rs.getString(4)).thenReturn("Description");
+        when(rs.getObject(5, LocalDateTime.class)).thenReturn(LocalDateTime.of(2025, 1, 1, 9, 0));
+        when(rs.getInt(6)).thenReturn(7);
+        when(rs.getObject(7, LocalDate.class)).thenReturn(LocalDate.of(2025, 1, 5));
+        when(rs.getObject(8, LocalDate.class)).thenReturn(LocalDate.of(2025, 1, 9));
+        when(rs.getArray(9)).thenReturn(tags);
+        when(rs.getInt(10)).thenReturn(2);
+        when(rs.getInt(11)).thenReturn(3);
+
+        TaskDTO task = mapper.mapRow(rs, 0);
+
+        assertEquals(42, task.id());
+        assertEquals("Title", task.title());
+        assertEquals(LocalDateTime.of(2025, 1, 1, 9, 0), task.createdAt());
+        assertEquals(LocalDateTime.of(2025, 1, 2, 10, 0), task.updatedAt());
+        assertEquals(7, task.assignedEmployeeId());
+        assertEquals(LocalDate.of(2025, 1, 9), task.endDate());
+        assertArrayEquals(new String[]{"backend", "urgent"}, task.tags());
+        assertEquals(StatusType.IN_PROGRESS, task.status());
+        assertEquals(PriorityType.HIGH, task.priority());
+    }
+
+    @Test
+    void mapRow_shouldResolveColumnsOncePerResultSetAndMapNulls() throws SQLException {
+        when(rs.getInt(2)).thenReturn(1);
+        when(rs.getInt(6)).thenReturn(0);
+        when(rs.wasNull()).thenReturn(true);
+        when(rs.getInt(10)).thenReturn(2);
+        when(rs.getInt(11)).thenReturn(3);
+
+        TaskDTO first = mapper.mapRow(rs, 0);
+        mapper.mapRow(rs, 1);
+
+        assertNull(first.assignedEmployeeId());
+        assertEquals(0, first.tags().length);
+        verify(rs, times(1)).findColumn("tags");
+    }
+}
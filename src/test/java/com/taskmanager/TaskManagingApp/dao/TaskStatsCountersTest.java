@@ -0,0 +1,137 @@
+package com.taskmanager.TaskManagingApp.dao;
+
+import com.taskmanager.TaskManagingApp.dto.TaskCountKey;
+import com.taskmanager.TaskManagingApp.dto.TaskStats;
+import com.taskmanager.TaskManagingApp.models.PriorityType;
+import com.taskmanager.TaskManagingApp.models.StatusType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class TaskStatsCountersTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private TaskStatsCounters counters;
+
+    @BeforeEach
+    void setup() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        counters = new TaskStatsCounters(jdbcTemplate, null, Duration.ofMinutes(1));
+    }
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void snapshot_shouldCountMatrixOverdueAndUnassigned() {
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        LocalDate nextWeek = LocalDate.now().plusDays(7);
+
+        try (TaskStatsCounters.Write write = counters.beginWrite()) {
+            write.onCreate(new TaskCountKey(StatusType.TODO, PriorityType.HIGH, false, yesterday));
+            write.onCreate(new TaskCountKey(StatusType.TODO, PriorityType.HIGH, true, nextWeek));
+            write.onCreate(new TaskCountKey(StatusType.DONE, PriorityType.LOW, true, yesterday));
+        }
+
+        TaskStats stats = counters.snapshot();
+
+        assertEquals(2, stats.counts().get(StatusType.TODO).get(PriorityType.HIGH));
+        assertEquals(1, stats.counts().get(StatusType.DONE).get(PriorityType.LOW));
+        assertEquals(0, stats.counts().get(StatusType.REVIEW).get(PriorityType.CRITICAL));
+        assertEquals(3, stats.total());
+        assertEquals(1, stats.overdue());
+        assertEquals(1, stats.unassigned());
+    }
+
+    @Test
+    void onUpdate_shouldMoveTaskBetweenCells() {
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        TaskCountKey before = new TaskCountKey(StatusType.TODO, PriorityType.HIGH, false, yesterday);
+        TaskCountKey after = new TaskCountKey(StatusType.DONE, PriorityType.HIGH, true, yesterday);
+
+        try (TaskStatsCounters.Write write = counters.beginWrite()) {
+            write.onCreate(before);
+        }
+        try (TaskStatsCounters.Write write = counters.beginWrite()) {
+            write.onUpdate(before, after);
+        }
+
+        TaskStats stats = counters.snapshot();
+
+        assertEquals(0, stats.counts().get(StatusType.TODO).get(PriorityType.HIGH));
+        assertEquals(1, stats.counts().get(StatusType.DONE).get(PriorityType.HIGH));
+        assertEquals(0, stats.overdue());
+        assertEquals(0, stats.unassigned());
+    }
+
+    @Test
+    void onDelete_shouldDecrementEveryCellTheTaskWasIn() {
+        TaskCountKey task = new TaskCountKey(StatusType.REVIEW, PriorityType.MEDIUM, false, LocalDate.now().minusDays(3));
+
+        try (TaskStatsCounters.Write write = counters.beginWrite()) {
+            write.onCreate(task);
+        }
+        try (TaskStatsCounters.Write write = counters.beginWrite()) {
+            write.onDelete(task);
+        }
+
+        TaskStats stats = counters.snapshot();
+
+        assertEquals(0, stats.total());
+        assertEquals(0, stats.overdue());
+        assertEquals(0, stats.unassigned());
+    }
+
+    @Test
+    void write_insideTransaction_shouldOnlyApplyAfterCommit() {
+        TaskCountKey task = new TaskCountKey(StatusType.TODO, PriorityType.LOW, false, LocalDate.now().plusDays(1));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try (TaskStatsCounters.Write write = counters.beginWrite()) {
+            write.onCreate(task);
+        }
+        assertEquals(0, counters.snapshot().total());
+
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+        assertEquals(0, counters.snapshot().total());
+
+        TransactionSynchronizationManager.initSynchronization();
+        try (TaskStatsCounters.Write write = counters.beginWrite()) {
+            write.onCreate(task);
+        }
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+        assertEquals(1, counters.snapshot().total());
+    }
+
+    @Test
+    void remoteInvalidation_shouldNotReseedBeforeTheInterval() {
+        counters.evict(42);
+        counters.evictAll();
+
+        counters.snapshot();
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    private static void complete(int status) {
+        var synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        if (status == TransactionSynchronization.STATUS_COMMITTED) {
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+        }
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+}
@@ -0,0 +1,122 @@
+package com.taskmanager.TaskManagingApp.service;
+
+import com.taskmanager.TaskManagingApp.config.SqlTraceRecorder;
+import com.taskmanager.TaskManagingApp.dao.EmployeeCache;
+import com.taskmanager.TaskManagingApp.dao.StatementShapeCache;
+import com.taskmanager.TaskManagingApp.dto.EmployeeCacheStats;
+import com.taskmanager.TaskManagingApp.dto.EmployeeDTO;
+import com.taskmanager.TaskManagingApp.dto.SqlStatementStats;
+import com.taskmanager.TaskManagingApp.dto.StatementShapeStats;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class AdminServiceTest {
+
+    private StatementShapeCache statementShapeCache;
+    private EmployeeCache employeeCache;
+    private SqlTraceRecorder sqlTraceRecorder;
+    private AdminService adminService;
+
+    @BeforeEach
+    void setup() {
+        statementShapeCache = new StatementShapeCache();
+        employeeCache = new EmployeeCache(100, Duration.ofMinutes(10));
+        sqlTraceRecorder = new SqlTraceRecorder(Duration.ofSeconds(1), false, Duration.ofMinutes(5), true, 100);
+        adminService = new AdminService(statementShapeCache, employeeCache, mock(TaskArchiveService.class), sqlTraceRecorder);
+    }
+
+    @Test
+    void getStatementShapeStats_shouldBeEmpty_beforeAnyStatement() {
+        StatementShapeStats stats = adminService.getStatementShapeStats();
+
+        assertEquals(0, stats.shapes());
+        assertEquals(0, stats.hits());
+        assertEquals(0, stats.misses());
+        assertEquals(0.0, stats.hitRate());
+    }
+
+    @Test
+    void getStatementShapeStats_shouldCountReusedShapesAsHits() {
+        AtomicInteger builds = new AtomicInteger();
+
+        String first = statementShapeCache.sql("employee.updateInfo", 1, mask -> "shape-" + mask + "-" + builds.incrementAndGet());
+        String second = statementShapeCache.sql("employee.updateInfo", 1, mask -> "shape-" + mask + "-" + builds.incrementAndGet());
+        statementShapeCache.sql("employee.updateInfo", 3, mask -> "shape-" + mask + "-" + builds.incrementAndGet());
+        statementShapeCache.sql("task.create", 1, mask -> "shape-" + mask + "-" + builds.incrementAndGet());
+
+        StatementShapeStats stats = adminService.getStatementShapeStats();
+
+        assertSame(first, second);
+        assertEquals(3, builds.get());
+        assertEquals(3, stats.shapes());
+        assertEquals(1, stats.hits());
+        assertEquals(3, stats.misses());
+        assertEquals(0.25, stats.hitRate());
+    }
+
+    @Test
+    void getEmployeeCacheStats_shouldReloadOnlyAfterInvalidation() {
+        EmployeeDTO employee = new EmployeeDTO(10, "Tony", "tony@stark.com", false, LocalDateTime.now(), LocalDateTime.now());
+        AtomicInteger loads = new AtomicInteger();
+
+        employeeCache.get(10, id -> { loads.incrementAndGet(); return employee; });
+        employeeCache.get(10, id -> { loads.incrementAndGet(); return employee; });
+        employeeCache.invalidate(10);
+        employeeCache.get(10, id -> { loads.incrementAndGet(); return employee; });
+
+        EmployeeCacheStats stats = adminService.getEmployeeCacheStats();
+
+        assertEquals(2, loads.get());
+        assertEquals(1, stats.size());
+        assertEquals(1, stats.hits());
+        assertEquals(2, stats.misses());
+        assertEquals(1, stats.invalidations());
+    }
+
+    @Test
+    void getEmployeeCacheStats_shouldNotCacheMissingEmployees() {
+        AtomicInteger loads = new AtomicInteger();
+
+        assertNull(employeeCache.get(99, id -> { loads.incrementAndGet(); return null; }));
+        assertNull(employeeCache.get(99, id -> { loads.incrementAndGet(); return null; }));
+
+        assertEquals(2, loads.get());
+        assertEquals(0, adminService.getEmployeeCacheStats().size());
+    }
+
+    @Test
+    void getTopStatements_shouldGroupByFingerprint_andOrderByTotalTime() {
+        sqlTraceRecorder.record("SELECT * FROM tbl_master_employee WHERE id IN (?,?,?)", new Object[]{1, 2, 3}, 3, 2_000_000, 3, null);
+        sqlTraceRecorder.record("SELECT *\n  FROM tbl_master_employee\n  WHERE id IN (?, ?)", new Object[]{4, 5}, 2, 3_000_000, 2, null);
+        sqlTraceRecorder.record("SELECT * FROM tbl_master_tasks WHERE status = 4 AND title = 'it''s'", new Object[0], 0, 1_000_000, 7, null);
+
+        List<SqlStatementStats> statements = adminService.getTopStatements(null);
+
+        assertEquals(2, statements.size());
+        assertEquals("SELECT * FROM tbl_master_employee WHERE id IN (...)", statements.get(0).fingerprint());
+        assertEquals(2, statements.get(0).calls());
+        assertEquals(5, statements.get(0).rows());
+        assertEquals(5.0, statements.get(0).totalMillis());
+        assertEquals(3.0, statements.get(0).maxMillis());
+        assertEquals("SELECT * FROM tbl_master_tasks WHERE status = ? AND title = ?", statements.get(1).fingerprint());
+
+        assertEquals(1, adminService.getTopStatements(1).size());
+
+        adminService.resetSqlTrace();
+        assertTrue(adminService.getTopStatements(null).isEmpty());
+    }
+
+    @Test
+    void getTopStatements_shouldRejectOutOfRangeLimit() {
+        assertThrows(IllegalArgumentException.class, () -> adminService.getTopStatements(0));
+        assertThrows(IllegalArgumentException.class, () -> adminService.getTopStatements(201));
+    }
+}
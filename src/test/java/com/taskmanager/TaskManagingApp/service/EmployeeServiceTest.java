@@ -2,6 +2,8 @@ package com.taskmanager.TaskManagingApp.service;
 
 import com.taskmanager.TaskManagingApp.dao.EmployeeDAO;
 import com.taskmanager.TaskManagingApp.dto.EmployeeDTO;
+import com.taskmanager.TaskManagingApp.dto.EmployeeWorkload;
+import com.taskmanager.TaskManagingApp.dto.EmployeeWorkloadPage;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -388,4 +390,37 @@ class EmployeeServiceTest {
 
         assertEquals("No employee with 1 id found", ex.getMessage());
     }
+
+    /* ===================== WORKLOAD ===================== */
+
+    private EmployeeWorkload sampleWorkload(int id) {
+        return new EmployeeWorkload(id, "abc", "abc@example.com", 0, Map.of(), Map.of(), null);
+    }
+
+    @Test
+    void getEmployeeWorkload_shouldReturnAll_whenNoLimit() {
+        when(employeeDAO.findEmployeeWorkloads(null, null)).thenReturn(List.of(sampleWorkload(1), sampleWorkload(2)));
+
+        EmployeeWorkloadPage page = employeeService.getEmployeeWorkload(null, null);
+
+        assertEquals(2, page.items().size());
+        assertNull(page.nextAfter());
+    }
+
+    @Test
+    void getEmployeeWorkload_shouldReturnNextAfter_whenMoreRowsExist() {
+        when(employeeDAO.findEmployeeWorkloads(5, 3)).thenReturn(List.of(sampleWorkload(6), sampleWorkload(7), sampleWorkload(9)));
+
+        EmployeeWorkloadPage page = employeeService.getEmployeeWorkload(5, 2);
+
+        assertEquals(2, page.items().size());
+        assertEquals(7, page.nextAfter());
+    }
+
+    @Test
+    void getEmployeeWorkload_shouldThrow_whenLimitOutOfRange() {
+        assertThrows(IllegalArgumentException.class, () -> employeeService.getEmployeeWorkload(null, 0));
+        assertThrows(IllegalArgumentException.class, () -> employeeService.getEmployeeWorkload(null, 501));
+        verifyNoInteractions(employeeDAO);
+    }
 }
@@ -0,0 +1,67 @@
+package com.taskmanager.TaskManagingApp.service;
+
+import com.taskmanager.TaskManagingApp.dao.ReactiveTaskDAO;
+import com.taskmanager.TaskManagingApp.dto.TaskDTO;
+import com.taskmanager.TaskManagingApp.models.PriorityType;
+import com.taskmanager.TaskManagingApp.models.StatusType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveTaskServiceTest {
+
+    @Mock
+    private ReactiveTaskDAO reactiveTaskDAO;
+
+    @InjectMocks
+    private ReactiveTaskService reactiveTaskService;
+
+    private TaskDTO taskDTO;
+
+    @BeforeEach
+    void setup() {
+        taskDTO = new TaskDTO(1, "Task", "Desc", LocalDateTime.now(), LocalDateTime.now(), null, LocalDate.now(), LocalDate.now().plusDays(5), new String[0], StatusType.TODO, PriorityType.HIGH);
+    }
+
+    @Test
+    void streamTasks_byStatus_usesStatusQuery() {
+        when(reactiveTaskDAO.findTasksByStatus(StatusType.TODO)).thenReturn(Flux.just(taskDTO));
+
+        List<TaskDTO> tasks = reactiveTaskService.streamTasks(StatusType.TODO, null).collectList().block();
+
+        assertEquals(1, tasks.size());
+        verify(reactiveTaskDAO, never()).getAllTasks();
+    }
+
+    @Test
+    void streamTasks_shouldThrow_whenStatusAndPriorityBothPassed() {
+        assertThrows(IllegalArgumentException.class, () -> reactiveTaskService.streamTasks(StatusType.TODO, PriorityType.HIGH));
+        verifyNoInteractions(reactiveTaskDAO);
+    }
+
+    @Test
+    void getTaskById_errorsWithNotFound_whenEmpty() {
+        when(reactiveTaskDAO.findTaskById(1)).thenReturn(Mono.empty());
+
+        assertThrows(IllegalStateException.class, () -> reactiveTaskService.getTaskById(1).block());
+    }
+
+    @Test
+    void streamTasksAssignedToEmployee_shouldThrow_whenIdNegative() {
+        assertThrows(IllegalArgumentException.class, () -> reactiveTaskService.streamTasksAssignedToEmployee(-1));
+        verifyNoInteractions(reactiveTaskDAO);
+    }
+}
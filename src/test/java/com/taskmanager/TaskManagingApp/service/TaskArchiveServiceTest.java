@@ -0,0 +1,87 @@
+package com.taskmanager.TaskManagingApp.service;
+
+import com.taskmanager.TaskManagingApp.dao.TaskArchiveDAO;
+import com.taskmanager.TaskManagingApp.dao.TaskStatsCounters;
+import com.taskmanager.TaskManagingApp.dto.ArchiveRunResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskArchiveServiceTest {
+
+    @Mock
+    private TaskArchiveDAO taskArchiveDAO;
+
+    @Mock
+    private TaskStatsCounters taskStats;
+
+    private TaskArchiveService taskArchiveService;
+
+    @BeforeEach
+    void setup() {
+        taskArchiveService = new TaskArchiveService(taskArchiveDAO, taskStats, true, 90, 100, 3, Duration.ZERO);
+    }
+
+    @Test
+    void archive_drainsUntilShortBatch() {
+        when(taskArchiveDAO.archiveSoftDeletedBatch(100)).thenReturn(100, 40);
+        when(taskArchiveDAO.archiveDoneBatch(any(LocalDateTime.class), eq(100))).thenReturn(0);
+
+        ArchiveRunResult result = taskArchiveService.archive();
+
+        assertEquals(140, result.softDeleted());
+        assertEquals(0, result.done());
+        assertEquals(3, result.batches());
+        verify(taskArchiveDAO).ensurePartition(YearMonth.now());
+        verify(taskArchiveDAO).ensurePartition(YearMonth.now().plusMonths(1));
+        verify(taskArchiveDAO).publishArchived();
+        // soft-deleted rows were never part of the live counters
+        verify(taskStats, never()).markStale();
+    }
+
+    @Test
+    void archive_stopsAtMaxBatches() {
+        when(taskArchiveDAO.archiveSoftDeletedBatch(100)).thenReturn(100);
+
+        ArchiveRunResult result = taskArchiveService.archive();
+
+        assertEquals(300, result.softDeleted());
+        assertEquals(3, result.batches());
+        verify(taskArchiveDAO, never()).archiveDoneBatch(any(), anyInt());
+    }
+
+    @Test
+    void archive_marksCountersStale_whenDoneTasksMoved() {
+        when(taskArchiveDAO.archiveSoftDeletedBatch(100)).thenReturn(0);
+        when(taskArchiveDAO.archiveDoneBatch(any(LocalDateTime.class), eq(100))).thenReturn(25);
+
+        ArchiveRunResult result = taskArchiveService.archive();
+
+        assertEquals(25, result.done());
+        verify(taskStats).markStale();
+        verify(taskArchiveDAO).publishArchived();
+    }
+
+    @Test
+    void archive_publishesNothing_whenNothingMoved() {
+        when(taskArchiveDAO.archiveSoftDeletedBatch(100)).thenReturn(0);
+        when(taskArchiveDAO.archiveDoneBatch(any(LocalDateTime.class), eq(100))).thenReturn(0);
+
+        ArchiveRunResult result = taskArchiveService.archive();
+
+        assertEquals(0, result.total());
+        verify(taskArchiveDAO, never()).publishArchived();
+        verify(taskStats, never()).markStale();
+    }
+}
@@ -1,10 +1,21 @@
 package com.taskmanager.TaskManagingApp.service;
 
 import com.taskmanager.TaskManagingApp.dao.TaskDAO;
-import com.taskmanager.TaskManagingApp.dto.EmployeeDTO;
+import com.taskmanager.TaskManagingApp.dao.TaskStatsCounters;
+import com.taskmanager.TaskManagingApp.dto.BulkCreateResult;
+import com.taskmanager.TaskManagingApp.dto.BulkItemError;
+import com.taskmanager.TaskManagingApp.dto.TaskCountKey;
+import com.taskmanager.TaskManagingApp.dto.TaskCursor;
 import com.taskmanager.TaskManagingApp.dto.TaskDTO;
+import com.taskmanager.TaskManagingApp.dto.TaskFilter;
+import com.taskmanager.TaskManagingApp.dto.TaskPage;
+import com.taskmanager.TaskManagingApp.dto.TaskSearchHit;
+import com.taskmanager.TaskManagingApp.dto.TaskSearchPage;
+import com.taskmanager.TaskManagingApp.dto.TaskUpdateResult;
 import com.taskmanager.TaskManagingApp.models.PriorityType;
 import com.taskmanager.TaskManagingApp.models.StatusType;
+import com.taskmanager.TaskManagingApp.models.TagMatch;
+import com.taskmanager.TaskManagingApp.models.Task;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -14,10 +25,21 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.function.Consumer;
 
+import static com.taskmanager.TaskManagingApp.constants.ErrorMessages.EMPLOYEE_ALREADY_DEACTIVATED;
+import static com.taskmanager.TaskManagingApp.constants.ErrorMessages.EMPLOYEE_NOT_FOUND;
+import static com.taskmanager.TaskManagingApp.constants.ErrorMessages.INVALID_CURSOR;
+import static com.taskmanager.TaskManagingApp.constants.ErrorMessages.INVALID_DATE_RANGE;
 import static com.taskmanager.TaskManagingApp.constants.ErrorMessages.INVALID_END_DATE;
+import static com.taskmanager.TaskManagingApp.constants.ErrorMessages.INVALID_START_DATE;
+import static com.taskmanager.TaskManagingApp.constants.ErrorMessages.SEARCH_QUERY_CANT_BE_NULL;
+import static com.taskmanager.TaskManagingApp.constants.ErrorMessages.TASK_CANT_BE_NULL;
 import static com.taskmanager.TaskManagingApp.constants.ErrorMessages.TASK_NOT_FOUND;
+import static com.taskmanager.TaskManagingApp.constants.ErrorMessages.TITLE_CANT_BE_NULL;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
@@ -28,7 +50,10 @@ class TaskServiceTest {
     private TaskDAO taskDAO;
 
     @Mock
-    private EmployeeService employeeService;
+    private TaskStatsCounters taskStats;
+
+    @Mock
+    private TaskStatsCounters.Write statsWrite;
 
     @InjectMocks
     private TaskService taskService;
@@ -37,6 +62,8 @@ class TaskServiceTest {
 
     @BeforeEach
     void setup() {
+        lenient().when(taskStats.beginWrite()).thenReturn(statsWrite);
+
         taskDTO = new TaskDTO(
                 1,
                 "Test Task",
@@ -78,6 +105,7 @@ class TaskServiceTest {
 
         assertEquals(1, id);
         verify(taskDAO, times(1)).createTask(any(), any(), any(), any(), any(), any(), any());
+        verify(statsWrite).onCreate(new TaskCountKey(StatusType.TODO, PriorityType.HIGH, false, LocalDate.now().plusDays(2)));
     }
 
     @Test
@@ -240,6 +268,39 @@ class TaskServiceTest {
 
     // ---------------- GET TASK ----------------
 
+    // ---------------- BULK CREATE ----------------
+
+    @Test
+    void createTasks_shouldInsertValidItems_andReportInvalidOnesByIndex() {
+        Task first = new Task(null, "First", "Desc", null, null, null, LocalDate.now(), LocalDate.now().plusDays(1), null, StatusType.TODO, PriorityType.LOW, null);
+        Task invalid = new Task(null, "", "Desc", null, null, null, LocalDate.now(), LocalDate.now().plusDays(1), null, StatusType.TODO, PriorityType.LOW, null);
+        Task third = new Task(null, "Third", "Desc", null, null, null, LocalDate.now(), LocalDate.now().plusDays(1), new String[]{"x"}, StatusType.DONE, PriorityType.HIGH, null);
+
+        when(taskDAO.createTasks(List.of(first, third))).thenReturn(List.of(7, 8));
+
+        BulkCreateResult result = taskService.createTasks(Arrays.asList(first, invalid, third, null));
+
+        assertEquals(Arrays.asList(7, null, 8, null), result.ids());
+        assertEquals(2, result.errors().size());
+        assertEquals(new BulkItemError(1, TITLE_CANT_BE_NULL), result.errors().get(0));
+        assertEquals(new BulkItemError(3, TASK_CANT_BE_NULL), result.errors().get(1));
+    }
+
+    @Test
+    void createTasks_shouldNotTouchDatabase_whenEveryItemIsInvalid() {
+        Task invalid = new Task(null, "Title", "Desc", null, null, null, null, LocalDate.now().plusDays(1), null, StatusType.TODO, PriorityType.LOW, null);
+
+        BulkCreateResult result = taskService.createTasks(List.of(invalid));
+
+        assertEquals(new BulkItemError(0, INVALID_START_DATE), result.errors().getFirst());
+        verify(taskDAO, never()).createTasks(any());
+    }
+
+    @Test
+    void createTasks_shouldThrow_whenListEmpty() {
+        assertThrows(IllegalArgumentException.class, () -> taskService.createTasks(List.of()));
+    }
+
     @Test
     void getTaskById_success() {
         when(taskDAO.findTaskById(1)).thenReturn(taskDTO);
@@ -259,17 +320,23 @@ class TaskServiceTest {
         );
     }
 
+    @Test
+    void getTaskById_includeArchived_readsArchiveToo() {
+        when(taskDAO.findTaskIncludingArchived(1)).thenReturn(taskDTO);
+
+        TaskDTO result = taskService.getTaskById(1, true);
+
+        assertEquals(1, result.id());
+        verify(taskDAO, never()).findTaskById(anyInt());
+    }
+
     // ---------------- UPDATE TASK ----------------
 
     @Test
     void updateTask_success_withEmployeeAssignment() {
-        EmployeeDTO employee = new EmployeeDTO(10, "Tony", "tony@stark.com", false,LocalDateTime.now(),LocalDateTime.now());
-
-        when(taskDAO.findTaskById(1)).thenReturn(taskDTO);
-        when(employeeService.getEmployeeById(10)).thenReturn(employee);
-        when(taskDAO.updateTask(any(), any(), any(), any(), any(), any(), any(), any(), any()))
-                .thenReturn(1);
-        when(taskDAO.findTaskById(1)).thenReturn(taskDTO);
+        TaskCountKey previous = new TaskCountKey(StatusType.TODO, PriorityType.HIGH, false, taskDTO.endDate());
+        when(taskDAO.updateTask(1, "title", null, null, null, null, null, null, 10))
+                .thenReturn(new TaskUpdateResult(true, true, false, previous, taskDTO));
 
         TaskDTO updated = taskService.updateTask(
                 1,
@@ -284,17 +351,18 @@ class TaskServiceTest {
         );
 
         assertNotNull(updated);
-        verify(taskDAO).unassignTask(1);
+        verify(taskDAO, never()).findTaskById(any());
+        verify(taskDAO, never()).unassignTask(any());
+        verify(statsWrite).onUpdate(previous, TaskCountKey.of(taskDTO));
     }
 
 
     @Test
     void updateTask_shouldFail_whenEmployeeIsDeactivated() {
-        EmployeeDTO employee = new EmployeeDTO(10, "Tony", "tony@stark.com", true,LocalDateTime.now(),LocalDateTime.now());
+        when(taskDAO.updateTask(any(), any(), any(), any(), any(), any(), any(), any(), any()))
+                .thenReturn(new TaskUpdateResult(true, true, true, TaskCountKey.of(taskDTO), null));
 
-        when(taskDAO.findTaskById(1)).thenReturn(taskDTO);
-        when(employeeService.getEmployeeById(10)).thenReturn(employee);
-        assertThrows(IllegalStateException.class, () ->
+        IllegalStateException ex = assertThrows(IllegalStateException.class, () ->
                 taskService.updateTask(
                         1,
                         "Title",
@@ -307,13 +375,38 @@ class TaskServiceTest {
                         10
                 )
         );
+
+        assertEquals(String.format(EMPLOYEE_ALREADY_DEACTIVATED, 10), ex.getMessage());
+    }
+
+    @Test
+    void updateTask_shouldFail_whenEmployeeNotFound() {
+        when(taskDAO.updateTask(any(), any(), any(), any(), any(), any(), any(), any(), any()))
+                .thenReturn(new TaskUpdateResult(true, false, false, TaskCountKey.of(taskDTO), null));
+
+        IllegalStateException ex = assertThrows(IllegalStateException.class, () ->
+                taskService.updateTask(
+                        1,
+                        "Title",
+                        null,
+                        null,
+                        null,
+                        null,
+                        null,
+                        null,
+                        10
+                )
+        );
+
+        assertEquals(String.format(EMPLOYEE_NOT_FOUND, 10), ex.getMessage());
     }
 
     @Test
     void updateTask_shouldThrow_whenTaskNotFound() {
-        when(taskDAO.findTaskById(1)).thenReturn(null);
+        when(taskDAO.updateTask(any(), any(), any(), any(), any(), any(), any(), any(), any()))
+                .thenReturn(new TaskUpdateResult(false, false, false, null, null));
 
-        assertThrows(IllegalStateException.class, () ->
+        IllegalStateException ex = assertThrows(IllegalStateException.class, () ->
                 taskService.updateTask(
                         1,
                         "Title",
@@ -326,6 +419,8 @@ class TaskServiceTest {
                         null
                 )
         );
+
+        assertEquals(String.format(TASK_NOT_FOUND, 1), ex.getMessage());
     }
 
     @Test
@@ -348,8 +443,6 @@ class TaskServiceTest {
     @Test
     void updateTask_shouldThrow_whenEndDateBeforeStartDate() {
 
-        when(taskDAO.findTaskById(1)).thenReturn(taskDTO);
-
         LocalDate startDate = LocalDate.now().plusDays(5);
         LocalDate endDate = LocalDate.now().plusDays(2);
 
@@ -376,7 +469,6 @@ class TaskServiceTest {
     @Test
     void updateTask_shouldThrow_whenEndDateInPast() {
 
-        when(taskDAO.findTaskById(1)).thenReturn(taskDTO);
         LocalDate startDate=LocalDate.now().minusDays(10);
         LocalDate pastEndDate = LocalDate.now().minusDays(1);
 
@@ -434,6 +526,113 @@ class TaskServiceTest {
         assertEquals(1, tasks.size());
     }
 
+    // ---------------- EXPORT ----------------
+
+    @Test
+    void exportTasks_shouldStreamRowsToConsumer() {
+        when(taskDAO.streamAllTasks(anyInt(), any())).thenAnswer(invocation -> {
+            Consumer<TaskDTO> consumer = invocation.getArgument(1);
+            consumer.accept(taskDTO);
+            return 1;
+        });
+
+        List<TaskDTO> received = new ArrayList<>();
+        int exported = taskService.exportTasks(received::add);
+
+        assertEquals(1, exported);
+        assertEquals(List.of(taskDTO), received);
+    }
+
+    // ---------------- FILTER / PAGINATION ----------------
+
+    @Test
+    void findTasks_shouldPassCompositeFilterToDao_withoutLimit() {
+        TaskFilter filter = new TaskFilter(List.of(StatusType.TODO, StatusType.REVIEW), List.of(PriorityType.HIGH), List.of(1), List.of("backend"), TagMatch.ALL, LocalDate.now(), null, null, LocalDate.now().plusDays(10), false, false);
+        when(taskDAO.findTasks(filter, null, null)).thenReturn(List.of(taskDTO));
+
+        List<TaskDTO> tasks = taskService.findTasks(filter);
+
+        assertEquals(List.of(taskDTO), tasks);
+    }
+
+    @Test
+    void findTasks_shouldThrow_whenDateRangeInverted() {
+        TaskFilter filter = new TaskFilter(null, null, null, null, TagMatch.ANY, LocalDate.now().plusDays(5), LocalDate.now(), null, null, false, false);
+
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () -> taskService.findTasks(filter));
+
+        assertEquals(String.format(INVALID_DATE_RANGE, "start"), ex.getMessage());
+        verifyNoInteractions(taskDAO);
+    }
+
+    @Test
+    void getTaskPage_shouldReturnNextCursor_whenMoreRowsExist() {
+        TaskDTO second = new TaskDTO(2, "Second", "Desc", LocalDateTime.now(), LocalDateTime.now(), null, LocalDate.now(), LocalDate.now().plusDays(1), null, StatusType.TODO, PriorityType.LOW);
+        when(taskDAO.findTasks(TaskFilter.none(), null, 2)).thenReturn(List.of(taskDTO, second));
+
+        TaskPage page = taskService.getTaskPage(TaskFilter.none(), null, 1);
+
+        assertEquals(1, page.items().size());
+        assertNotNull(page.nextCursor());
+        assertEquals(TaskCursor.after(taskDTO), TaskCursor.decode(page.nextCursor()));
+    }
+
+    @Test
+    void getTaskPage_shouldResumeFromCursor_forStatusAndPriorityFilter() {
+        TaskCursor cursor = TaskCursor.after(taskDTO);
+        TaskFilter filter = new TaskFilter(List.of(StatusType.TODO), List.of(PriorityType.HIGH), null, null, TagMatch.ANY, null, null, null, null, false, false);
+        when(taskDAO.findTasks(filter, cursor, 51)).thenReturn(List.of(taskDTO));
+
+        TaskPage page = taskService.getTaskPage(filter, cursor.encode(), null);
+
+        assertEquals(1, page.items().size());
+        assertNull(page.nextCursor());
+    }
+
+    @Test
+    void getTaskPage_shouldThrow_whenLimitOutOfRange() {
+        assertThrows(IllegalArgumentException.class, () -> taskService.getTaskPage(TaskFilter.none(), null, 0));
+        assertThrows(IllegalArgumentException.class, () -> taskService.getTaskPage(TaskFilter.none(), null, 501));
+        verifyNoInteractions(taskDAO);
+    }
+
+    @Test
+    void getTaskPage_shouldThrow_whenCursorIsGarbage() {
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () -> taskService.getTaskPage(TaskFilter.none(), "not-a-cursor", 10));
+
+        assertEquals(INVALID_CURSOR, ex.getMessage());
+    }
+
+    // ---------------- SEARCH ----------------
+
+    @Test
+    void searchTasks_shouldTranslatePageToOffset_andDetectMore() {
+        TaskSearchHit first = new TaskSearchHit(taskDTO, 0.9, "<mark>Test</mark> Task", "Description");
+        TaskSearchHit second = new TaskSearchHit(taskDTO, 0.5, "<mark>Test</mark> Task", "Description");
+        when(taskDAO.searchTasks("test", 10, 2)).thenReturn(List.of(first, second));
+
+        TaskSearchPage page = taskService.searchTasks("  test ", 11, 1);
+
+        assertEquals(List.of(first), page.items());
+        assertEquals(11, page.page());
+        assertTrue(page.hasMore());
+    }
+
+    @Test
+    void searchTasks_shouldThrow_whenQueryBlank() {
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () -> taskService.searchTasks(" ", null, null));
+
+        assertEquals(SEARCH_QUERY_CANT_BE_NULL, ex.getMessage());
+        verifyNoInteractions(taskDAO);
+    }
+
+    @Test
+    void searchTasks_shouldThrow_whenPageOutOfRange() {
+        assertThrows(IllegalArgumentException.class, () -> taskService.searchTasks("test", 0, null));
+        assertThrows(IllegalArgumentException.class, () -> taskService.searchTasks("test", 101, null));
+        verifyNoInteractions(taskDAO);
+    }
+
     @Test
     void getAllTaskAssignedToEmployee_shouldReturnTasks() {
 
@@ -557,6 +756,17 @@ class TaskServiceTest {
         verify(taskDAO).deleteTaskById(1);
     }
 
+    @Test
+    void deleteTask_shouldDecrementCounters_onlyWhenRowWasDeleted() {
+        when(taskDAO.findTaskById(1)).thenReturn(taskDTO);
+        when(taskDAO.deleteTaskById(1)).thenReturn(1, 0);
+
+        taskService.deleteTask(1);
+        taskService.deleteTask(1);
+
+        verify(statsWrite, times(1)).onDelete(TaskCountKey.of(taskDTO));
+    }
+
     @Test
     void deleteEmployee_shouldFail_whenNotFound() {
         when(taskDAO.findTaskById(1)).thenReturn(null);